@@ -1,7 +1,10 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.collections.AllMatch;
+import com.codeborne.selenide.collections.AnyMatch;
 import com.codeborne.selenide.collections.ExactTexts;
 import com.codeborne.selenide.collections.ListSize;
+import com.codeborne.selenide.collections.NoneMatch;
 import com.codeborne.selenide.collections.SizeGreaterThan;
 import com.codeborne.selenide.collections.SizeGreaterThanOrEqual;
 import com.codeborne.selenide.collections.SizeLessThan;
@@ -18,8 +21,37 @@ import java.util.List;
 public abstract class CollectionCondition implements Predicate<List<WebElement>> {
   protected String explanation;
 
+  /**
+   * Checks the condition having access to driver (e.g. to fetch data of all elements by a single request).
+   * By default, just calls {@link #apply(Object)}.
+   */
+  public boolean apply(Driver driver, List<WebElement> elements) {
+    return apply(elements);
+  }
+
+  /**
+   * Checks the condition against given collection (once per attempt of waiting).
+   * By default, fetches all elements of the collection and calls {@link #apply(Driver, List)}.
+   * Subclasses may override it to check the collection in a cheaper way (e.g. only count its elements).
+   *
+   * @return result of the check, which is passed to {@link #fail(WebElementsCollection, CheckResult, Exception, long)}
+   * if the collection never matches
+   */
+  public CheckResult check(WebElementsCollection collection) {
+    List<WebElement> elements = collection.getElements();
+    return new CheckResult(apply(collection.driver(), elements), elements.size(), elements);
+  }
+
   public abstract void fail(WebElementsCollection collection, List<WebElement> elements, Exception lastError, long timeoutMs);
 
+  /**
+   * Reports the result of the last check (or null if no check succeeded to get the actual state of collection).
+   * By default, just calls {@link #fail(WebElementsCollection, List, Exception, long)} with the checked elements.
+   */
+  public void fail(WebElementsCollection collection, CheckResult lastCheck, Exception lastError, long timeoutMs) {
+    fail(collection, lastCheck == null ? null : lastCheck.elements, lastError, timeoutMs);
+  }
+
   public static CollectionCondition empty = size(0);
 
   /**
@@ -103,6 +135,32 @@ public abstract class CollectionCondition implements Predicate<List<WebElement>>
     return new ExactTexts(expectedTexts);
   }
 
+  /**
+   * Checks that all collection elements match given condition (and collection is not empty).
+   * All elements are checked at once, so only one wait is needed instead of waiting for every element.
+   *
+   * <p>For example: {@code $$(".row").shouldHave(allMatch(visible))}</p>
+   */
+  public static CollectionCondition allMatch(Condition condition) {
+    return new AllMatch(condition);
+  }
+
+  /**
+   * Checks that at least one collection element matches given condition
+   * @see #allMatch(Condition)
+   */
+  public static CollectionCondition anyMatch(Condition condition) {
+    return new AnyMatch(condition);
+  }
+
+  /**
+   * Checks that no collection elements match given condition (an empty collection matches too)
+   * @see #allMatch(Condition)
+   */
+  public static CollectionCondition noneMatch(Condition condition) {
+    return new NoneMatch(condition);
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
@@ -110,4 +168,23 @@ public abstract class CollectionCondition implements Predicate<List<WebElement>>
     this.explanation = explanation;
     return this;
   }
+
+  /**
+   * Actual state of collection seen by {@link #check(WebElementsCollection)}
+   */
+  public static class CheckResult {
+    public final boolean matches;
+    public final int size;
+
+    /**
+     * Checked elements, or null if the check didn't need to fetch them
+     */
+    public final List<WebElement> elements;
+
+    public CheckResult(boolean matches, int size, List<WebElement> elements) {
+      this.matches = matches;
+      this.size = size;
+      this.elements = elements;
+    }
+  }
 }
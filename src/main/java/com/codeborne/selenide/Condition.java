@@ -3,6 +3,7 @@ package com.codeborne.selenide;
 import com.codeborne.selenide.conditions.Text;
 import com.codeborne.selenide.impl.Describe;
 import com.codeborne.selenide.impl.Html;
+import com.codeborne.selenide.impl.JavaScriptConditions;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
 
@@ -22,6 +23,11 @@ public abstract class Condition {
     public boolean apply(Driver driver, WebElement element) {
       return element.isDisplayed();
     }
+
+    @Override
+    public String toJavaScript() {
+      return "selenide.visible(element)";
+    }
   };
 
   /**
@@ -40,6 +46,11 @@ public abstract class Condition {
         return false;
       }
     }
+
+    @Override
+    public String toJavaScript() {
+      return "true";
+    }
   };
 
   /**
@@ -59,6 +70,11 @@ public abstract class Condition {
         return true;
       }
     }
+
+    @Override
+    public String toJavaScript() {
+      return "!selenide.visible(element)";
+    }
   };
 
   /**
@@ -113,6 +129,11 @@ public abstract class Condition {
         return element.getAttribute(attributeName) != null;
       }
 
+      @Override
+      public String toJavaScript() {
+        return "selenide.attr(element, " + JavaScriptConditions.quote(attributeName) + ") !== null";
+      }
+
       @Override
       public String toString() {
         return name + " " + attributeName;
@@ -133,6 +154,12 @@ public abstract class Condition {
         return expectedAttributeValue.equals(getAttributeValue(element, attributeName));
       }
 
+      @Override
+      public String toJavaScript() {
+        return JavaScriptConditions.quote(expectedAttributeValue) +
+            " === (selenide.attr(element, " + JavaScriptConditions.quote(attributeName) + ") || '')";
+      }
+
       @Override
       public String toString() {
         return name + " " + attributeName + '=' + expectedAttributeValue;
@@ -160,6 +187,11 @@ public abstract class Condition {
         return Html.text.contains(getAttributeValue(element, "value"), expectedValue);
       }
 
+      @Override
+      public String toJavaScript() {
+        return "selenide.contains(selenide.attr(element, 'value') || '', " + JavaScriptConditions.quote(expectedValue) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + expectedValue + "'";
@@ -269,6 +301,11 @@ public abstract class Condition {
         return Html.text.containsCaseSensitive(element.getText(), text);
       }
 
+      @Override
+      public String toJavaScript() {
+        return "selenide.containsCaseSensitive(selenide.text(element), " + JavaScriptConditions.quote(text) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + text + '\'';
@@ -291,6 +328,11 @@ public abstract class Condition {
         return Html.text.equals(element.getText(), text);
       }
 
+      @Override
+      public String toJavaScript() {
+        return "selenide.equals(selenide.text(element), " + JavaScriptConditions.quote(text) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + text + '\'';
@@ -312,6 +354,11 @@ public abstract class Condition {
         return Html.text.equalsCaseSensitive(element.getText(), text);
       }
 
+      @Override
+      public String toJavaScript() {
+        return "selenide.equalsCaseSensitive(selenide.text(element), " + JavaScriptConditions.quote(text) + ")";
+      }
+
       @Override
       public String toString() {
         return name + " '" + text + '\'';
@@ -339,6 +386,11 @@ public abstract class Condition {
         return classes != null && contains(classes.split(" "), cssClass);
       }
 
+      @Override
+      public String toJavaScript() {
+        return "(selenide.attr(element, 'class') || '').split(' ').indexOf(" + JavaScriptConditions.quote(cssClass) + ") >= 0";
+      }
+
       @Override
       public String toString() {
         return name + " '" + cssClass + '\'';
@@ -399,6 +451,17 @@ public abstract class Condition {
       return focusedElement != null && focusedElement.equals(webElement);
     }
 
+    @Override
+    public String toJavaScript() {
+      return "element === document.activeElement";
+    }
+
+    @Override
+    public String actualValueJavaScript() {
+      return "document.activeElement ? 'Focused focusedElement: ' + selenide.shortly(document.activeElement) +\n" +
+          "  ', current focusedElement: ' + selenide.shortly(element) : 'No focused focusedElement found '";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement webElement) {
       WebElement focusedElement = getFocusedElement(driver);
@@ -419,6 +482,16 @@ public abstract class Condition {
       return element.isEnabled();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "selenide.isEnabled(element)";
+    }
+
+    @Override
+    public String actualValueJavaScript() {
+      return "selenide.isEnabled(element) ? 'enabled' : 'disabled'";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
@@ -436,6 +509,16 @@ public abstract class Condition {
       return !element.isEnabled();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "!selenide.isEnabled(element)";
+    }
+
+    @Override
+    public String actualValueJavaScript() {
+      return "selenide.isEnabled(element) ? 'enabled' : 'disabled'";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return element.isEnabled() ? "enabled" : "disabled";
@@ -453,6 +536,16 @@ public abstract class Condition {
       return element.isSelected();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "selenide.isSelected(element)";
+    }
+
+    @Override
+    public String actualValueJavaScript() {
+      return "String(selenide.isSelected(element))";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return String.valueOf(element.isSelected());
@@ -470,6 +563,16 @@ public abstract class Condition {
       return element.isSelected();
     }
 
+    @Override
+    public String toJavaScript() {
+      return "selenide.isSelected(element)";
+    }
+
+    @Override
+    public String actualValueJavaScript() {
+      return "String(selenide.isSelected(element))";
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return String.valueOf(element.isSelected());
@@ -490,6 +593,17 @@ public abstract class Condition {
         return !condition.apply(driver, element);
       }
 
+      @Override
+      public String toJavaScript() {
+        String js = condition.toJavaScript();
+        return js == null ? null : "!(" + js + ")";
+      }
+
+      @Override
+      public String actualValueJavaScript() {
+        return condition.actualValueJavaScript();
+      }
+
       @Override
       public String actualValue(Driver driver, WebElement element) {
         return condition.actualValue(driver, element);
@@ -519,6 +633,21 @@ public abstract class Condition {
         return true;
       }
 
+      @Override
+      public String toJavaScript() {
+        return joinJavaScript(" && ", condition);
+      }
+
+      @Override
+      public String actualValueJavaScript() {
+        StringBuilder js = new StringBuilder();
+        for (Condition c : condition) {
+          String actualValue = c.actualValueJavaScript();
+          js.append("!(").append(c.toJavaScript()).append(") ? ").append(actualValue == null ? "null" : actualValue).append(" : ");
+        }
+        return js.append("null").toString();
+      }
+
       @Override
       public String actualValue(Driver driver, WebElement element) {
         return lastFailedCondition == null ? null : lastFailedCondition.actualValue(driver, element);
@@ -555,6 +684,17 @@ public abstract class Condition {
         return false;
       }
 
+      @Override
+      public String toJavaScript() {
+        return joinJavaScript(" || ", condition);
+      }
+
+      @Override
+      public String actualValueJavaScript() {
+        String actualValue = condition.length == 0 ? null : condition[0].actualValueJavaScript();
+        return actualValue == null ? "null" : actualValue;
+      }
+
       @Override
       public String actualValue(Driver driver, WebElement element) {
         return firstFailedCondition == null ? null : firstFailedCondition.actualValue(driver, element);
@@ -567,6 +707,16 @@ public abstract class Condition {
     };
   }
 
+  private static String joinJavaScript(String operator, Condition... conditions) {
+    StringBuilder js = new StringBuilder();
+    for (Condition condition : conditions) {
+      String conditionJs = condition.toJavaScript();
+      if (conditionJs == null) return null;
+      js.append(js.length() == 0 ? "(" : operator).append('(').append(conditionJs).append(')');
+    }
+    return js.length() == 0 ? null : js.append(')').toString();
+  }
+
   /**
    * Used to form human-readable condition expression
    * Example element.should(be(visible),have(text("abc"))
@@ -596,6 +746,16 @@ public abstract class Condition {
         return delegate.apply(driver, element);
       }
 
+      @Override
+      public String toJavaScript() {
+        return delegate.toJavaScript();
+      }
+
+      @Override
+      public String actualValueJavaScript() {
+        return delegate.actualValueJavaScript();
+      }
+
       @Override
       public String actualValue(Driver driver, WebElement element) {
         return delegate.actualValue(driver, element);
@@ -623,6 +783,16 @@ public abstract class Condition {
       return delegate.apply(driver, element);
     }
 
+    @Override
+    public String toJavaScript() {
+      return delegate.toJavaScript();
+    }
+
+    @Override
+    public String actualValueJavaScript() {
+      return delegate.actualValueJavaScript();
+    }
+
     @Override
     public String actualValue(Driver driver, WebElement element) {
       return delegate.actualValue(driver, element);
@@ -671,6 +841,28 @@ public abstract class Condition {
     return null;
   }
 
+  /**
+   * JavaScript expression checking this condition in browser, like {@code "selenide.visible(element)"}.
+   * The expression can use variable {@code element} and helper functions described in {@link JavaScriptConditions}.
+   * Used only if {@link Config#conditionsViaJs()} is enabled.
+   *
+   * @return JavaScript expression, or null if this condition can be checked only by {@link #apply(Driver, WebElement)}
+   */
+  public String toJavaScript() {
+    return null;
+  }
+
+  /**
+   * JavaScript expression returning the actual value of element for error message (see {@link #actualValue(Driver, WebElement)}),
+   * like {@code "String(selenide.isSelected(element))"}. It's evaluated by the same call as {@link #toJavaScript()},
+   * so that the error message describes exactly the state which failed the check.
+   *
+   * @return JavaScript expression, or null if the actual value is provided only by {@link #actualValue(Driver, WebElement)}
+   */
+  public String actualValueJavaScript() {
+    return null;
+  }
+
   /**
    * Should be used for explaining the reason of condition
    */
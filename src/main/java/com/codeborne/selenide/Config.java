@@ -18,15 +18,24 @@ public interface Config {
   String baseUrl();
   long timeout();
   long pollingInterval();
+  PollingStrategy pollingStrategy();
   boolean holdBrowserOpen();
   boolean reopenBrowserOnFail();
   boolean clickViaJs();
   boolean screenshots();
   boolean savePageSource();
+  PageSourceMode pageSourceMode();
+  ReportsWriteMode reportsWriteMode();
   String reportsFolder();
   String reportsUrl();
   boolean fastSetValue();
   boolean versatileSetValue();
+  boolean cacheElementReferences();
+  boolean searchViaJs();
+  boolean waitForDomMutations();
+  boolean skipUnchangedDom();
+  boolean conditionsViaJs();
+  boolean fusedCommands();
   SelectorMode selectorMode();
   AssertionMode assertionMode();
   FileDownloadMode fileDownload();
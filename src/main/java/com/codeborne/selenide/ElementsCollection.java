@@ -2,10 +2,13 @@ package com.codeborne.selenide;
 
 import com.codeborne.selenide.ex.UIAssertionError;
 import com.codeborne.selenide.impl.BySelectorCollection;
+import com.codeborne.selenide.impl.ChunkedElementsIterator;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.CollectionElement;
 import com.codeborne.selenide.impl.CollectionElementByCondition;
 import com.codeborne.selenide.impl.Describe;
+import com.codeborne.selenide.impl.DomMutationWaiter;
+import com.codeborne.selenide.impl.ElementTexts;
 import com.codeborne.selenide.impl.FilteringCollection;
 import com.codeborne.selenide.impl.HeadOfCollection;
 import com.codeborne.selenide.impl.LastCollectionElement;
@@ -22,14 +25,17 @@ import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.stream.Stream;
 
 import static com.codeborne.selenide.Condition.not;
 import static com.codeborne.selenide.logevents.ErrorsCollector.validateAssertionMode;
 import static com.codeborne.selenide.logevents.LogEvent.EventStatus.PASS;
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
 public class ElementsCollection extends AbstractList<SelenideElement> {
@@ -128,29 +134,42 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
 
   protected void waitUntil(CollectionCondition condition, long timeoutMs) {
     Exception lastError = null;
-    List<WebElement> actualElements = null;
+    CollectionCondition.CheckResult lastCheck = null;
     Stopwatch stopwatch = new Stopwatch(timeoutMs);
+    PollingStrategy pollingStrategy = driver().config().pollingStrategy();
+    DomMutationWaiter domMutationWaiter = new DomMutationWaiter(driver());
+    int attempt = 0;
     do {
-      try {
-        actualElements = collection.getElements();
-        if (condition.apply(actualElements)) {
-          return;
+      long delay = pollingStrategy.delay(++attempt, driver().config().pollingInterval());
+      if (!domMutationWaiter.canSkipCheck(stopwatch.isTimeoutReachedAfter(delay))) {
+        try {
+          CollectionCondition.CheckResult check = condition.check(collection);
+          if (check.matches) {
+            return;
+          }
+          lastCheck = check;
         }
-      }
-      catch (JavascriptException e) {
-        throw e;
-      }
-      catch (WebDriverException elementNotFound) {
-        lastError = elementNotFound;
+        catch (JavascriptException e) {
+          throw e;
+        }
+        catch (WebDriverException elementNotFound) {
+          lastError = elementNotFound;
 
-        if (Cleanup.of.isInvalidSelectorError(elementNotFound)) {
-          throw Cleanup.of.wrap(elementNotFound);
+          if (Cleanup.of.isInvalidSelectorError(elementNotFound)) {
+            throw Cleanup.of.wrap(elementNotFound);
+          }
         }
       }
-      sleep(driver().config().pollingInterval());
+      sleep(domMutationWaiter, delay);
     }
     while (!stopwatch.isTimeoutReached());
-    condition.fail(collection, actualElements, lastError, timeoutMs);
+    condition.fail(collection, lastCheck, lastError, timeoutMs);
+  }
+
+  private void sleep(DomMutationWaiter domMutationWaiter, long delay) {
+    if (!domMutationWaiter.waitForMutation(delay)) {
+      sleep(delay);
+    }
   }
 
   void sleep(long ms) {
@@ -234,7 +253,25 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
    * @return array of texts
    */
   public List<String> texts() {
-    return texts(getElements());
+    return texts(driver(), getElements());
+  }
+
+  /**
+   * Fail-safe method for retrieving texts of given elements.
+   * Fetches all texts by a single JavaScript call if {@link Config#conditionsViaJs()} is enabled.
+   * @param elements Any collection of WebElements
+   * @return Array of texts (or exceptions in case of any WebDriverExceptions)
+   */
+  public static List<String> texts(Driver driver, Collection<WebElement> elements) {
+    if (ElementTexts.instance.fetchesAtOnce(driver, elements.size())) {
+      try {
+        return ElementTexts.instance.of(driver, elements);
+      }
+      catch (WebDriverException someElementDisappeared) {
+        // get texts one by one to show which elements have disappeared
+      }
+    }
+    return texts(elements);
   }
 
   /**
@@ -270,11 +307,11 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
 
     StringBuilder sb = new StringBuilder(256);
     sb.append("[\n\t");
-    for (WebElement element : elements) {
+    for (String description : Describe.describe(driver, elements)) {
       if (sb.length() > 4) {
         sb.append(",\n\t");
       }
-      sb.append(Describe.describe(driver, element));
+      sb.append(description);
     }
     sb.append("\n]");
     return sb.toString();
@@ -336,7 +373,7 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
    */
   @Override
   public int size() {
-    return getElements().size();
+    return collection.size();
   }
 
   @Override
@@ -344,6 +381,29 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     return new SelenideElementIterator(fetch());
   }
 
+  /**
+   * Iterates over collection elements fetching them from browser by chunks of given size
+   * instead of fetching all elements at once.
+   * Useful for very large collections (like virtualized grids or logs with thousands of elements).
+   * <p>
+   * ATTENTION! Only collections which can fetch a part of their elements benefit from it,
+   * e.g. collections found by CSS or XPath selector with {@link Config#searchViaJs()} enabled.
+   * Others fetch all elements at once.
+   *
+   * @param chunkSize number of elements fetched by one request
+   */
+  public Iterator<SelenideElement> iterator(int chunkSize) {
+    return new ChunkedElementsIterator(collection, chunkSize);
+  }
+
+  /**
+   * Stream of collection elements fetched from browser by chunks of given size
+   * @see #iterator(int)
+   */
+  public Stream<SelenideElement> stream(int chunkSize) {
+    return ChunkedElementsIterator.stream(collection, chunkSize);
+  }
+
   @Override
   public ListIterator<SelenideElement> listIterator(int index) {
     return new SelenideElementListIterator(fetch(), index);
@@ -354,15 +414,76 @@ public class ElementsCollection extends AbstractList<SelenideElement> {
     return new WebElementsCollectionWrapper(driver(), fetchedElements);
   }
 
+  /**
+   * Bulk operations like {@code stream()}, {@code contains} or {@code subList} work on elements fetched once
+   * (instead of calling {@code size()} and {@code get(i)} which reload collection from browser every time).
+   */
+  private List<SelenideElement> fetchAll() {
+    WebElementsCollectionWrapper fetched = fetch();
+    int size = fetched.getElements().size();
+    List<SelenideElement> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      elements.add(CollectionElement.wrap(fetched, i));
+    }
+    return unmodifiableList(elements);
+  }
+
+  @Override
+  public Stream<SelenideElement> stream() {
+    return fetchAll().stream();
+  }
+
+  @Override
+  public Stream<SelenideElement> parallelStream() {
+    return fetchAll().parallelStream();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return fetchAll().contains(o);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    return fetchAll().containsAll(c);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return fetchAll().indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return fetchAll().lastIndexOf(o);
+  }
+
+  /**
+   * @return elements of the current state of this collection (fetched once, not reloaded from browser)
+   */
+  @Override
+  public List<SelenideElement> subList(int fromIndex, int toIndex) {
+    return fetchAll().subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    return fetchAll().toArray(a);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || fetchAll().equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return fetchAll().hashCode();
+  }
+
   @Override
   public Object[] toArray() {
-    List<WebElement> fetchedElements = collection.getElements();
-    Object[] result = new Object[fetchedElements.size()];
-    Iterator<WebElement> it = fetchedElements.iterator();
-    for (int i = 0; i < result.length; i++) {
-      result[i] = Describe.describe(driver(), it.next());
-    }
-    return result;
+    return Describe.describe(driver(), collection.getElements()).toArray();
   }
 
   /**
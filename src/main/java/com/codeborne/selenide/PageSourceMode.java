@@ -0,0 +1,18 @@
+package com.codeborne.selenide;
+
+/**
+ * What part of page source is saved on failing tests (if {@link Config#savePageSource()} is enabled)
+ */
+public enum PageSourceMode {
+  /**
+   * Default mode - the whole page source
+   */
+  FULL,
+
+  /**
+   * Only the failed element (if it's known) with its siblings, parent and path of its ancestors.
+   * If the failed element is not known (e.g. it was not found), the page source is truncated.
+   * Requires browser support for JavaScript, otherwise the whole page source is saved.
+   */
+  ELEMENT
+}
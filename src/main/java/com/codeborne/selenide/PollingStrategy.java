@@ -0,0 +1,53 @@
+package com.codeborne.selenide;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines how long Selenide sleeps between attempts while waiting for a condition
+ * (in {@code should}, {@code waitUntil}, collection checks and {@link SelenideWait}).
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+  /**
+   * @param attempt number of the attempt that has just failed, starting from 1
+   * @param pollingInterval polling interval from {@link Config#pollingInterval()} or the one given to waiting method
+   * @return how many milliseconds to sleep before the next attempt
+   */
+  long delay(int attempt, long pollingInterval);
+
+  /**
+   * Always sleeps for polling interval. Default strategy.
+   */
+  static PollingStrategy fixed() {
+    return (attempt, pollingInterval) -> pollingInterval;
+  }
+
+  /**
+   * Retries immediately after the first failed attempt, then sleeps for polling interval.
+   */
+  static PollingStrategy immediateFirstRetry() {
+    return (attempt, pollingInterval) -> attempt == 1 ? 0 : pollingInterval;
+  }
+
+  /**
+   * Starts with a quarter of polling interval and doubles the delay after every attempt,
+   * but never sleeps longer than {@code maxDelay} milliseconds.
+   */
+  static PollingStrategy exponentialBackoff(long maxDelay) {
+    return (attempt, pollingInterval) -> {
+      long initialDelay = Math.max(1, pollingInterval / 4);
+      return Math.min(maxDelay, initialDelay << Math.min(attempt - 1, 30));
+    };
+  }
+
+  /**
+   * Randomly shortens or prolongs delays of given strategy by up to 50%,
+   * so that many parallel sessions don't hit the same Selenium Grid at the same moments.
+   */
+  static PollingStrategy jittered(PollingStrategy strategy) {
+    return (attempt, pollingInterval) -> {
+      long delay = strategy.delay(attempt, pollingInterval);
+      return delay / 2 + ThreadLocalRandom.current().nextLong(delay + 1);
+    };
+  }
+}
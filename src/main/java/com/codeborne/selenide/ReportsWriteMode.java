@@ -0,0 +1,23 @@
+package com.codeborne.selenide;
+
+/**
+ * How screenshots and page sources of failing tests are written to {@link Config#reportsFolder()}
+ */
+public enum ReportsWriteMode {
+  /**
+   * Default mode - files are written by the test thread before the test continues
+   */
+  SYNC,
+
+  /**
+   * Files are written by a background thread.
+   * If too many files are waiting to be written, the test thread writes the file by itself.
+   */
+  ASYNC,
+
+  /**
+   * Files are written by a background thread.
+   * If too many files are waiting to be written, the file is not written at all.
+   */
+  ASYNC_DROPPING
+}
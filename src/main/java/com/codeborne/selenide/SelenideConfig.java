@@ -6,6 +6,8 @@ import org.openqa.selenium.remote.DesiredCapabilities;
 import static com.codeborne.selenide.AssertionMode.STRICT;
 import static com.codeborne.selenide.Browsers.CHROME;
 import static com.codeborne.selenide.FileDownloadMode.HTTPGET;
+import static com.codeborne.selenide.PageSourceMode.FULL;
+import static com.codeborne.selenide.ReportsWriteMode.SYNC;
 import static com.codeborne.selenide.SelectorMode.CSS;
 
 public class SelenideConfig implements Config {
@@ -24,16 +26,25 @@ public class SelenideConfig implements Config {
   private String baseUrl = System.getProperty("selenide.baseUrl", "http://localhost:8080");
   private long timeout = Long.parseLong(System.getProperty("selenide.timeout", "4000"));
   private long pollingInterval = Long.parseLong(System.getProperty("selenide.pollingInterval", "200"));
+  private PollingStrategy pollingStrategy = PollingStrategy.fixed();
   private boolean holdBrowserOpen = Boolean.getBoolean("selenide.holdBrowserOpen");
   private boolean reopenBrowserOnFail = Boolean.parseBoolean(System.getProperty("selenide.reopenBrowserOnFail", "true"));
   private boolean clickViaJs = Boolean.parseBoolean(System.getProperty("selenide.clickViaJs", "false"));
   private boolean screenshots = Boolean.parseBoolean(System.getProperty("selenide.screenshots", "true"));
 
   private boolean savePageSource = Boolean.parseBoolean(System.getProperty("selenide.savePageSource", "true"));
+  private PageSourceMode pageSourceMode = PageSourceMode.valueOf(System.getProperty("selenide.pageSourceMode", FULL.name()));
+  private ReportsWriteMode reportsWriteMode = ReportsWriteMode.valueOf(System.getProperty("selenide.reportsWriteMode", SYNC.name()));
   private String reportsFolder = System.getProperty("selenide.reportsFolder", "build/reports/tests");
   private String reportsUrl = new JenkinsReportUrl().getReportsUrl(System.getProperty("selenide.reportsUrl"));
   private boolean fastSetValue = Boolean.parseBoolean(System.getProperty("selenide.fastSetValue", "false"));
   private boolean versatileSetValue = Boolean.parseBoolean(System.getProperty("selenide.versatileSetValue", "false"));
+  private boolean cacheElementReferences = Boolean.parseBoolean(System.getProperty("selenide.cacheElementReferences", "false"));
+  private boolean searchViaJs = Boolean.parseBoolean(System.getProperty("selenide.searchViaJs", "false"));
+  private boolean waitForDomMutations = Boolean.parseBoolean(System.getProperty("selenide.waitForDomMutations", "false"));
+  private boolean skipUnchangedDom = Boolean.parseBoolean(System.getProperty("selenide.skipUnchangedDom", "false"));
+  private boolean conditionsViaJs = Boolean.parseBoolean(System.getProperty("selenide.conditionsViaJs", "false"));
+  private boolean fusedCommands = Boolean.parseBoolean(System.getProperty("selenide.fusedCommands", "false"));
   private SelectorMode selectorMode = CSS;
   private AssertionMode assertionMode = STRICT;
   private FileDownloadMode fileDownload = FileDownloadMode.valueOf(System.getProperty("selenide.fileDownload", HTTPGET.name()));
@@ -71,6 +82,16 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return pollingStrategy;
+  }
+
+  public SelenideConfig pollingStrategy(PollingStrategy pollingStrategy) {
+    this.pollingStrategy = pollingStrategy;
+    return this;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return holdBrowserOpen;
@@ -121,6 +142,26 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public PageSourceMode pageSourceMode() {
+    return pageSourceMode;
+  }
+
+  public SelenideConfig pageSourceMode(PageSourceMode pageSourceMode) {
+    this.pageSourceMode = pageSourceMode;
+    return this;
+  }
+
+  @Override
+  public ReportsWriteMode reportsWriteMode() {
+    return reportsWriteMode;
+  }
+
+  public SelenideConfig reportsWriteMode(ReportsWriteMode reportsWriteMode) {
+    this.reportsWriteMode = reportsWriteMode;
+    return this;
+  }
+
   @Override
   public String reportsFolder() {
     return reportsFolder;
@@ -161,6 +202,66 @@ public class SelenideConfig implements Config {
     return this;
   }
 
+  @Override
+  public boolean cacheElementReferences() {
+    return cacheElementReferences;
+  }
+
+  public SelenideConfig cacheElementReferences(boolean cacheElementReferences) {
+    this.cacheElementReferences = cacheElementReferences;
+    return this;
+  }
+
+  @Override
+  public boolean searchViaJs() {
+    return searchViaJs;
+  }
+
+  public SelenideConfig searchViaJs(boolean searchViaJs) {
+    this.searchViaJs = searchViaJs;
+    return this;
+  }
+
+  @Override
+  public boolean waitForDomMutations() {
+    return waitForDomMutations;
+  }
+
+  public SelenideConfig waitForDomMutations(boolean waitForDomMutations) {
+    this.waitForDomMutations = waitForDomMutations;
+    return this;
+  }
+
+  @Override
+  public boolean skipUnchangedDom() {
+    return skipUnchangedDom;
+  }
+
+  public SelenideConfig skipUnchangedDom(boolean skipUnchangedDom) {
+    this.skipUnchangedDom = skipUnchangedDom;
+    return this;
+  }
+
+  @Override
+  public boolean conditionsViaJs() {
+    return conditionsViaJs;
+  }
+
+  public SelenideConfig conditionsViaJs(boolean conditionsViaJs) {
+    this.conditionsViaJs = conditionsViaJs;
+    return this;
+  }
+
+  @Override
+  public boolean fusedCommands() {
+    return fusedCommands;
+  }
+
+  public SelenideConfig fusedCommands(boolean fusedCommands) {
+    this.fusedCommands = fusedCommands;
+    return this;
+  }
+
   @Override
   public SelectorMode selectorMode() {
     return selectorMode;
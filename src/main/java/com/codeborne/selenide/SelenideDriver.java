@@ -162,7 +162,7 @@ public class SelenideDriver {
   }
 
   public SelenideWait Wait() {
-    return new SelenideWait(getWebDriver(), config().timeout(), config().pollingInterval());
+    return new SelenideWait(getWebDriver(), config().timeout(), config().pollingInterval(), config().pollingStrategy());
   }
 
   public void zoom(double factor) {
@@ -217,6 +217,6 @@ public class SelenideTargetLocator implements TargetLocator {
   }
 
   private SelenideWait Wait() {
-    return new SelenideWait(webDriver, config.timeout(), config.pollingInterval());
+    return new SelenideWait(webDriver, config.timeout(), config.pollingInterval(), config.pollingStrategy());
   }
 }
@@ -2,14 +2,61 @@ package com.codeborne.selenide;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 public class SelenideWait extends FluentWait<WebDriver> {
+  private final PollingSleeper sleeper;
+
   public SelenideWait(WebDriver input, long timeout, long pollingInterval) {
-    super(input);
+    this(input, timeout, pollingInterval, PollingStrategy.fixed());
+  }
+
+  public SelenideWait(WebDriver input, long timeout, long pollingInterval, PollingStrategy pollingStrategy) {
+    this(input, timeout, pollingInterval, new PollingSleeper(pollingStrategy));
+  }
+
+  private SelenideWait(WebDriver input, long timeout, long pollingInterval, PollingSleeper sleeper) {
+    super(input, Clock.systemDefaultZone(), sleeper);
+    this.sleeper = sleeper;
     withTimeout(Duration.of(timeout, ChronoUnit.MILLIS));
     pollingEvery(Duration.of(pollingInterval, ChronoUnit.MILLIS));
   }
+
+  @Override
+  public <V> V until(Function<? super WebDriver, V> isTrue) {
+    AtomicInteger previousAttempts = sleeper.attempts.get();
+    sleeper.attempts.set(new AtomicInteger());
+    try {
+      return super.until(isTrue);
+    }
+    finally {
+      sleeper.attempts.set(previousAttempts);
+    }
+  }
+
+  /**
+   * Sleeps as defined by polling strategy, using interval given to {@link #pollingEvery(Duration)} as polling interval.
+   * Attempts are counted separately for every {@link #until(Function)} call (even nested or running in parallel threads).
+   */
+  private static class PollingSleeper implements Sleeper {
+    private final PollingStrategy pollingStrategy;
+    private final ThreadLocal<AtomicInteger> attempts = new ThreadLocal<>();
+
+    PollingSleeper(PollingStrategy pollingStrategy) {
+      this.pollingStrategy = pollingStrategy;
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+      AtomicInteger counter = attempts.get();
+      int attempt = counter == null ? 1 : counter.incrementAndGet();
+      Thread.sleep(pollingStrategy.delay(attempt, duration.toMillis()));
+    }
+  }
 }
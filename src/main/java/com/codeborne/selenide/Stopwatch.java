@@ -14,6 +14,10 @@ public class Stopwatch {
     return nanoTime() > endTimeNano;
   }
 
+  public boolean isTimeoutReachedAfter(long milliseconds) {
+    return nanoTime() + MILLISECONDS.toNanos(milliseconds) > endTimeNano;
+  }
+
   public void sleep(long milliseconds) {
     try {
       Thread.sleep(milliseconds);
@@ -0,0 +1,30 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.Condition;
+
+import java.util.BitSet;
+import java.util.List;
+
+public class AllMatch extends ElementsMatch {
+  public AllMatch(Condition condition) {
+    super(condition);
+  }
+
+  @Override
+  protected boolean matches(int size, BitSet matching) {
+    return size > 0 && matching.cardinality() == size;
+  }
+
+  @Override
+  protected List<Integer> failedIndexes(int size, BitSet matching) {
+    BitSet failed = new BitSet(size);
+    failed.set(0, size);
+    failed.andNot(matching);
+    return indexes(failed);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("all match [%s]", condition);
+  }
+}
@@ -0,0 +1,37 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.Condition;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+public class AnyMatch extends ElementsMatch {
+  public AnyMatch(Condition condition) {
+    super(condition);
+  }
+
+  @Override
+  protected boolean matches(int size, BitSet matching) {
+    return !matching.isEmpty();
+  }
+
+  @Override
+  protected List<Integer> failedIndexes(int size, BitSet matching) {
+    if (!matching.isEmpty()) {
+      return emptyList();
+    }
+    List<Integer> failed = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      failed.add(i);
+    }
+    return failed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("any match [%s]", condition);
+  }
+}
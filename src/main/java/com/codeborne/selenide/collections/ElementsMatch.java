@@ -0,0 +1,116 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.CollectionCondition;
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.ex.ElementsMismatch;
+import com.codeborne.selenide.impl.JavaScriptConditions;
+import com.codeborne.selenide.impl.WebElementsCollection;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Checks an element condition for all collection elements at once (once per polling iteration).
+ * The condition is checked by a single JavaScript call if it supports it
+ * (see {@link com.codeborne.selenide.Config#conditionsViaJs()}), otherwise element by element.
+ */
+public abstract class ElementsMatch extends CollectionCondition {
+  protected final Condition condition;
+
+  protected ElementsMatch(Condition condition) {
+    this.condition = condition;
+  }
+
+  /**
+   * Checks the condition in Java, element by element (e.g. when this condition is used as a plain
+   * {@link com.google.common.base.Predicate}). Collections check it by {@link #apply(Driver, List)} instead,
+   * because element conditions depending on driver (like {@link Condition#focused}) need the driver of collection.
+   */
+  @Override
+  public boolean apply(List<WebElement> elements) {
+    return apply(null, elements);
+  }
+
+  @Override
+  public boolean apply(Driver driver, List<WebElement> elements) {
+    return matches(elements.size(), matchingIndexes(driver, elements));
+  }
+
+  /**
+   * @param size number of elements in collection
+   * @param matching indexes of elements matching the element condition
+   */
+  protected abstract boolean matches(int size, BitSet matching);
+
+  /**
+   * @param size number of elements in collection
+   * @param matching indexes of elements matching the element condition
+   * @return indexes of elements which don't let the collection match this condition
+   */
+  protected abstract List<Integer> failedIndexes(int size, BitSet matching);
+
+  List<Integer> failedIndexes(Driver driver, List<WebElement> elements) {
+    return failedIndexes(elements.size(), matchingIndexes(driver, elements));
+  }
+
+  /**
+   * @param driver driver of collection, or null if the condition is checked without it (then only in Java)
+   * @return indexes of elements matching the element condition
+   */
+  private BitSet matchingIndexes(Driver driver, List<WebElement> elements) {
+    BitSet matching = new BitSet(elements.size());
+    if (elements.isEmpty()) {
+      return matching;
+    }
+
+    if (driver != null && JavaScriptConditions.instance.canCheck(driver, singletonList(condition))) {
+      for (int index : JavaScriptConditions.instance.matchingIndexes(driver, elements, condition)) {
+        matching.set(index);
+      }
+      return matching;
+    }
+
+    for (int i = 0; i < elements.size(); i++) {
+      if (condition.apply(driver, elements.get(i))) {
+        matching.set(i);
+      }
+    }
+    return matching;
+  }
+
+  static List<Integer> indexes(BitSet bits) {
+    List<Integer> indexes = new ArrayList<>(bits.cardinality());
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      indexes.add(i);
+    }
+    return indexes;
+  }
+
+  @Override
+  public void fail(WebElementsCollection collection, List<WebElement> elements, Exception lastError, long timeoutMs) {
+    if (elements == null || elements.isEmpty()) {
+      ElementNotFound elementNotFound = new ElementNotFound(collection.driver(), collection.description(), condition, lastError);
+      elementNotFound.timeoutMs = timeoutMs;
+      throw elementNotFound;
+    }
+    throw new ElementsMismatch(collection, toString(), explanation, failedIndexesSafely(collection.driver(), elements),
+        elements, lastError, timeoutMs);
+  }
+
+  private List<Integer> failedIndexesSafely(Driver driver, List<WebElement> elements) {
+    try {
+      return failedIndexes(driver, elements);
+    }
+    catch (WebDriverException elementDisappeared) {
+      return emptyList();
+    }
+  }
+}
@@ -1,13 +1,16 @@
 package com.codeborne.selenide.collections;
 
 import com.codeborne.selenide.CollectionCondition;
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.TextsMismatch;
+import com.codeborne.selenide.impl.ElementTexts;
 import com.codeborne.selenide.impl.Html;
 import com.codeborne.selenide.impl.WebElementsCollection;
 import org.openqa.selenium.WebElement;
 
+import java.util.AbstractList;
 import java.util.List;
 
 import static java.util.Arrays.asList;
@@ -32,11 +35,41 @@ public class ExactTexts extends CollectionCondition {
     if (elements.size() != expectedTexts.size()) {
       return false;
     }
+    return matches(new AbstractList<String>() {
+      @Override
+      public String get(int index) {
+        return elements.get(index).getText();
+      }
+
+      @Override
+      public int size() {
+        return elements.size();
+      }
+    });
+  }
+
+  /**
+   * Fetches texts of all elements by a single JavaScript call if {@link com.codeborne.selenide.Config#conditionsViaJs()}
+   * is enabled, otherwise just calls {@link #apply(List)}.
+   */
+  @Override
+  public boolean apply(Driver driver, List<WebElement> elements) {
+    if (!ElementTexts.instance.fetchesAtOnce(driver, elements.size())) {
+      return apply(elements);
+    }
+    if (elements.size() != expectedTexts.size()) {
+      return false;
+    }
+    return matches(ElementTexts.instance.of(driver, elements));
+  }
 
+  /**
+   * @param actualTexts texts of collection elements, the same number as expected texts
+   * (text of an element may be fetched from browser only when it's accessed, so stop at the first mismatch)
+   */
+  protected boolean matches(List<String> actualTexts) {
     for (int i = 0; i < expectedTexts.size(); i++) {
-      WebElement element = elements.get(i);
-      String expectedText = expectedTexts.get(i);
-      if (!Html.text.equals(element.getText(), expectedText)) {
+      if (!Html.text.equals(actualTexts.get(i), expectedTexts.get(i))) {
         return false;
       }
     }
@@ -50,7 +83,8 @@ public class ExactTexts extends CollectionCondition {
       elementNotFound.timeoutMs = timeoutMs;
       throw elementNotFound;
     } else {
-      throw new TextsMismatch(collection, ElementsCollection.texts(elements), expectedTexts, explanation, timeoutMs);
+      List<String> actualTexts = ElementsCollection.texts(collection.driver(), elements);
+      throw new TextsMismatch(collection, actualTexts, expectedTexts, explanation, timeoutMs);
     }
   }
 
@@ -0,0 +1,27 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.Condition;
+
+import java.util.BitSet;
+import java.util.List;
+
+public class NoneMatch extends ElementsMatch {
+  public NoneMatch(Condition condition) {
+    super(condition);
+  }
+
+  @Override
+  protected boolean matches(int size, BitSet matching) {
+    return matching.isEmpty();
+  }
+
+  @Override
+  protected List<Integer> failedIndexes(int size, BitSet matching) {
+    return indexes(matching);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("none match [%s]", condition);
+  }
+}
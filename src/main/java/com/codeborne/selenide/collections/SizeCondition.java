@@ -0,0 +1,61 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.CollectionCondition;
+import com.codeborne.selenide.ex.ListSizeMismatch;
+import com.codeborne.selenide.impl.WebElementsCollection;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Condition depending only on the number of collection elements.
+ * It's checked by counting elements of collection (see {@link WebElementsCollection#size()}) instead of fetching them.
+ * Elements are fetched only to build the error message, which still reports the size that failed the last check.
+ */
+public abstract class SizeCondition extends CollectionCondition {
+  private final String operator;
+  protected final int expectedSize;
+
+  protected SizeCondition(String operator, int expectedSize) {
+    this.operator = operator;
+    this.expectedSize = expectedSize;
+  }
+
+  public abstract boolean applySize(int actualSize);
+
+  @Override
+  public boolean apply(List<WebElement> elements) {
+    return applySize(elements.size());
+  }
+
+  @Override
+  public CheckResult check(WebElementsCollection collection) {
+    int actualSize = collection.size();
+    return new CheckResult(applySize(actualSize), actualSize, null);
+  }
+
+  @Override
+  public void fail(WebElementsCollection collection, List<WebElement> elements, Exception lastError, long timeoutMs) {
+    throw new ListSizeMismatch(collection.driver(), operator, expectedSize, explanation, collection, elements, lastError, timeoutMs);
+  }
+
+  @Override
+  public void fail(WebElementsCollection collection, CheckResult lastCheck, Exception lastError, long timeoutMs) {
+    if (lastCheck == null || lastCheck.elements != null) {
+      super.fail(collection, lastCheck, lastError, timeoutMs);
+      return;
+    }
+    throw new ListSizeMismatch(collection.driver(), operator, expectedSize, explanation, collection,
+        lastCheck.size, elementsForErrorMessage(collection), lastError, timeoutMs);
+  }
+
+  private List<WebElement> elementsForErrorMessage(WebElementsCollection collection) {
+    try {
+      return collection.getElements();
+    }
+    catch (WebDriverException elementNotFound) {
+      return null;
+    }
+  }
+}
@@ -3,13 +3,29 @@ package com.codeborne.selenide.commands;
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.FusedAction;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
 public class Click implements Command<Void> {
+  private static final String CLICK_WITH_OFFSET = "arguments[0].dispatchEvent(new MouseEvent('click', {" +
+      "'view': window," +
+      "'bubbles': true," +
+      "'cancelable': true," +
+      "'clientX': arguments[0].getClientRects()[0].left + arguments[1]," +
+      "'clientY': arguments[0].getClientRects()[0].top + arguments[2]" +
+      "}))";
+
+  private static final FusedAction fusedClick = new FusedAction("element.click();");
+  private static final FusedAction fusedClickWithOffset = new FusedAction(
+      "(function() {" + CLICK_WITH_OFFSET + "}).apply(null, [element].concat(args));");
+
   @Override
   public Void execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
-    if (args == null || args.length == 0) {
+    if (locator.driver().config().clickViaJs() && FusedAction.isEnabled(locator.driver())) {
+      clickFused(locator, args);
+    }
+    else if (args == null || args.length == 0) {
       click(locator.driver(), locator.findAndAssertElementIsVisible());
     }
     else if (args.length == 2) {
@@ -18,6 +34,15 @@ public class Click implements Command<Void> {
     return null;
   }
 
+  private void clickFused(WebElementSource locator, Object[] args) {
+    if (args == null || args.length == 0) {
+      fusedClick.execute(locator);
+    }
+    else if (args.length == 2) {
+      fusedClickWithOffset.execute(locator, args[0], args[1]);
+    }
+  }
+
   protected void click(Driver driver, WebElement element) {
     if (driver.config().clickViaJs()) {
       driver.executeJavaScript("arguments[0].click()", element);
@@ -29,16 +54,7 @@ public class Click implements Command<Void> {
 
   protected void click(Driver driver, WebElement element, int offsetX, int offsetY) {
     if (driver.config().clickViaJs()) {
-      driver.executeJavaScript("arguments[0].dispatchEvent(new MouseEvent('click', {" +
-          "'view': window," +
-          "'bubbles': true," +
-          "'cancelable': true," +
-          "'clientX': arguments[0].getClientRects()[0].left + arguments[1]," +
-          "'clientY': arguments[0].getClientRects()[0].top + arguments[2]" +
-          "}))",
-        element,
-        offsetX,
-        offsetY);
+      driver.executeJavaScript(CLICK_WITH_OFFSET, element, offsetX, offsetY);
     }
     else {
       driver.actions()
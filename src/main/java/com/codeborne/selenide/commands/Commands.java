@@ -5,24 +5,40 @@ import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.impl.WebElementSource;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Registry of all SelenideElement commands.
+ *
+ * Commands are executed on every SelenideElement method call, from all threads, so reading is lock-free:
+ * registry holds an immutable map which is replaced by a new copy on every modification.
+ */
 public class Commands {
-  private static Commands collection;
+  private static final Commands collection = createDefaultCommands();
 
-  private final Map<String, Command> commands = new ConcurrentHashMap<>(128);
+  private volatile Map<String, Command<?>> commands = emptyMap();
 
-  public static synchronized Commands getInstance() {
-    if (collection == null) {
-      collection = new Commands();
-      collection.resetDefaults();
-    }
+  /**
+   * Commands being added by {@link #resetDefaults()} (null the rest of time)
+   */
+  private Map<String, Command<?>> defaults;
+
+  private static Commands createDefaultCommands() {
+    Commands defaultCommands = new Commands();
+    defaultCommands.resetDefaults();
+    return defaultCommands;
+  }
+
+  public static Commands getInstance() {
     return collection;
   }
 
   public final synchronized void resetDefaults() {
-    commands.clear();
+    defaults = new HashMap<>(128);
     addFindCommands();
     addClickCommands();
     addModifyCommands();
@@ -34,6 +50,8 @@ public class Commands {
     addShouldNotCommands();
     addFileCommands();
     addTechnicalCommands();
+    commands = unmodifiableMap(defaults);
+    defaults = null;
   }
 
   private void addTechnicalCommands() {
@@ -130,14 +148,20 @@ public class Commands {
     add("waitUntil", new ShouldBe());
   }
 
-  public void add(String method, Command command) {
-    commands.put(method, command);
+  public synchronized void add(String method, Command<?> command) {
+    if (defaults != null) {
+      defaults.put(method, command);
+      return;
+    }
+    Map<String, Command<?>> copy = new HashMap<>(commands);
+    copy.put(method, command);
+    commands = unmodifiableMap(copy);
   }
 
   @SuppressWarnings("unchecked")
   public <T> T execute(Object proxy, WebElementSource webElementSource, String methodName, Object[] args)
       throws IOException {
-    Command command = commands.get(methodName);
+    Command<?> command = commands.get(methodName);
     if (command == null) {
       throw new IllegalArgumentException("Unknown Selenide method: " + methodName);
     }
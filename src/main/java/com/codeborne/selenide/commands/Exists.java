@@ -10,6 +10,7 @@ import org.openqa.selenium.WebDriverException;
 public class Exists implements Command<Boolean> {
   @Override
   public Boolean execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
+    locator.invalidateCache();
     try {
       return locator.getWebElement() != null;
     } catch (WebDriverException | ElementNotFound elementNotFound) {
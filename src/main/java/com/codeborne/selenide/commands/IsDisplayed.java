@@ -11,6 +11,7 @@ import org.openqa.selenium.WebElement;
 public class IsDisplayed implements Command<Boolean> {
   @Override
   public Boolean execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
+    locator.invalidateCache();
     try {
       WebElement element = locator.getWebElement();
       return element != null && element.isDisplayed();
@@ -22,6 +22,7 @@ public class Matches implements Command<Boolean> {
   }
 
   protected WebElement getElementOrNull(WebElementSource locator) {
+    locator.invalidateCache();
     try {
       return locator.getWebElement();
     } catch (WebDriverException | ElementNotFound elementNotFound) {
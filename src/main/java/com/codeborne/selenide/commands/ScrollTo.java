@@ -2,13 +2,22 @@ package com.codeborne.selenide.commands;
 
 import com.codeborne.selenide.Command;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.FusedAction;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.WebElement;
 
 public class ScrollTo implements Command<WebElement> {
+  private static final FusedAction fusedScrollTo = new FusedAction(
+      "var rect = element.getBoundingClientRect();\n" +
+      "window.scrollTo(Math.floor(rect.left + window.pageXOffset), Math.floor(rect.top + window.pageYOffset));", false);
+
   @Override
   public WebElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
+    if (FusedAction.isEnabled(locator.driver())) {
+      fusedScrollTo.execute(locator);
+      return proxy;
+    }
     Point location = locator.getWebElement().getLocation();
     locator.driver().executeJavaScript("window.scrollTo(" + location.getX() + ", " + location.getY() + ')');
     return proxy;
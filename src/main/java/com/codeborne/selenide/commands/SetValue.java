@@ -4,12 +4,51 @@ import com.codeborne.selenide.Command;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.InvalidStateException;
+import com.codeborne.selenide.impl.Events;
+import com.codeborne.selenide.impl.FusedAction;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.openqa.selenium.WebElement;
 
-import static com.codeborne.selenide.impl.Events.events;
+import java.util.logging.Logger;
 
 public class SetValue implements Command<WebElement> {
+  private static final Logger log = Logger.getLogger(SetValue.class.getName());
+
+  private static final String SELECT = "select";
+  private static final String RADIO = "radio";
+  private static final String EVENTS_FAILED = "Failed to trigger events [keydown, keypress, input, keyup, change]: ";
+
+  /**
+   * Body of JavaScript function {@code (element, text, versatile)}.
+   * Returns "select" or "radio" if the value should be selected instead of typed, error message if the value
+   * cannot be set, warning if the value has been set but events could not be fired,
+   * or null if the value has been set and events have been fired.
+   */
+  private static final String SET_VALUE =
+      Events.FIRE_EVENTS_FUNCTION +
+      "if (versatile && element.tagName === 'SELECT') return '" + SELECT + "';" +
+      "if (versatile && element.tagName === 'INPUT' && element.type === 'radio') return '" + RADIO + "';" +
+      "if (element.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';" +
+      "if (element.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';" +
+      "element.focus();" +
+      "var maxlength = element.getAttribute('maxlength') == null ? -1 : parseInt(element.getAttribute('maxlength'));" +
+      "element.value = " +
+      "maxlength == -1 ? text " +
+      ": text.length <= maxlength ? text " +
+      ": text.substring(0, maxlength);" +
+      "try {" +
+      "  selenideFireEvents(element, ['keydown', 'keypress', 'input', 'keyup', 'change']);" +
+      "} catch (e) {" +
+      "  return '" + EVENTS_FAILED + "' + (e && e.message || e);" +
+      "}" +
+      "return null;";
+
+  private static final String JS_SET_VALUE =
+      "return (function(element, text, versatile) {" + SET_VALUE + "})(arguments[0], arguments[1], arguments[2]);";
+
+  private static final FusedAction fusedSetValue = new FusedAction(
+      "return (function(element, text, versatile) {" + SET_VALUE + "})(element, args[0], args[1]);");
+
   private SelectOptionByValue selectOptionByValue;
   private SelectRadio selectRadio;
 
@@ -26,53 +65,60 @@ public class SetValue implements Command<WebElement> {
   @Override
   public WebElement execute(SelenideElement proxy, WebElementSource locator, Object[] args) {
     String text = (String) args[0];
+    Driver driver = locator.driver();
+    if (driver.config().fastSetValue() && text != null && !text.isEmpty()) {
+      setValueByJs(proxy, locator, args);
+      return proxy;
+    }
+
     WebElement element = locator.findAndAssertElementIsVisible();
 
-    if (locator.driver().config().versatileSetValue()
+    if (driver.config().versatileSetValue()
       && "select".equalsIgnoreCase(element.getTagName())) {
       selectOptionByValue.execute(proxy, locator, args);
       return proxy;
     }
-    if (locator.driver().config().versatileSetValue()
+    if (driver.config().versatileSetValue()
       && "input".equalsIgnoreCase(element.getTagName()) && "radio".equals(element.getAttribute("type"))) {
       selectRadio.execute(proxy, locator, args);
       return proxy;
     }
 
-    setValueForTextInput(locator.driver(), element, text);
+    setValueForTextInput(element, text);
     return proxy;
   }
 
-  private void setValueForTextInput(Driver driver, WebElement element, String text) {
-    if (text == null || text.isEmpty()) {
-      element.clear();
+  /**
+   * Checks element type, sets the value and fires events by a single JavaScript call
+   * (also finding the element and checking its visibility, if {@link FusedAction} is enabled).
+   * Selects option or radio button only if the element turns out to be a select or a radio button.
+   */
+  private void setValueByJs(SelenideElement proxy, WebElementSource locator, Object[] args) {
+    Driver driver = locator.driver();
+    String text = (String) args[0];
+    boolean versatile = driver.config().versatileSetValue();
+    String result = FusedAction.isEnabled(driver) ?
+        fusedSetValue.execute(locator, text, versatile) :
+        driver.executeJavaScript(JS_SET_VALUE, locator.findAndAssertElementIsVisible(), text, versatile);
+
+    if (SELECT.equals(result)) {
+      selectOptionByValue.execute(proxy, locator, args);
+    }
+    else if (RADIO.equals(result)) {
+      selectRadio.execute(proxy, locator, args);
     }
-    else if (driver.config().fastSetValue()) {
-      String error = setValueByJs(driver, element, text);
-      if (error != null) throw new InvalidStateException(driver, error);
-      else {
-        events.fireEvent(driver, element, "keydown", "keypress", "input", "keyup", "change");
-      }
+    else if (result != null && result.startsWith(EVENTS_FAILED)) {
+      log.warning(result);
     }
-    else {
-      element.clear();
-      element.sendKeys(text);
+    else if (result != null) {
+      throw new InvalidStateException(driver, result);
     }
   }
 
-  private String setValueByJs(Driver driver, WebElement element, String text) {
-    return driver.executeJavaScript(
-        "return (function(webelement, text) {" +
-            "if (webelement.getAttribute('readonly') != undefined) return 'Cannot change value of readonly element';" +
-            "if (webelement.getAttribute('disabled') != undefined) return 'Cannot change value of disabled element';" +
-            "webelement.focus();" +
-            "var maxlength = webelement.getAttribute('maxlength') == null ? -1 : parseInt(webelement.getAttribute('maxlength'));" +
-            "webelement.value = " +
-            "maxlength == -1 ? text " +
-            ": text.length <= maxlength ? text " +
-            ": text.substring(0, maxlength);" +
-            "return null;" +
-            "})(arguments[0], arguments[1]);",
-        element, text);
+  private void setValueForTextInput(WebElement element, String text) {
+    element.clear();
+    if (text != null && !text.isEmpty()) {
+      element.sendKeys(text);
+    }
   }
 }
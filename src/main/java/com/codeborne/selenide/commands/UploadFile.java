@@ -49,6 +49,7 @@ public class UploadFile implements Command<File> {
   }
 
   private void uploadSingleFile(Config config, File file, Stopwatch stopwatch, WebElement newInput) throws IOException {
+    int attempt = 0;
     do {
       try {
         newInput.sendKeys(file.getCanonicalPath());
@@ -58,7 +59,7 @@ public class UploadFile implements Command<File> {
         if (stopwatch.isTimeoutReached()) {
           throw notInteractable;
         }
-        stopwatch.sleep(config.pollingInterval());
+        stopwatch.sleep(config.pollingStrategy().delay(++attempt, config.pollingInterval()));
       }
     } while (!stopwatch.isTimeoutReached());
   }
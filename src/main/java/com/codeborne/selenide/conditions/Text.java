@@ -3,6 +3,7 @@ package com.codeborne.selenide.conditions;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.Html;
+import com.codeborne.selenide.impl.JavaScriptConditions;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
@@ -23,6 +24,12 @@ public class Text extends Condition {
     return Html.text.contains(elementText, this.text.toLowerCase());
   }
 
+  @Override
+  public String toJavaScript() {
+    return "selenide.contains(element.tagName === 'SELECT' ? selenide.selectedText(element) : selenide.text(element), " +
+        JavaScriptConditions.quote(text) + ")";
+  }
+
   private String getSelectedOptionsTexts(WebElement element) {
     List<WebElement> selectedOptions = new Select(element).getAllSelectedOptions();
     StringBuilder sb = new StringBuilder();
@@ -5,16 +5,40 @@ import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.Describe;
 import org.openqa.selenium.WebElement;
 
+import java.util.function.Supplier;
+
 import static com.codeborne.selenide.ex.ErrorMessages.actualValue;
 
 public class ElementShouldNot extends UIAssertionError {
+  private final transient WebElement element;
+
   public ElementShouldNot(Driver driver, String searchCriteria, String prefix, String message, Condition expectedCondition,
                           WebElement element, Throwable lastError) {
-    super(driver,
+    this(driver, searchCriteria, prefix, message, expectedCondition, element, () -> actualValue(expectedCondition, driver, element),
+      lastError);
+  }
+
+  /**
+   * @param actualValue actual value of element got by the same check that has failed
+   */
+  public ElementShouldNot(Driver driver, String searchCriteria, String prefix, String message, Condition expectedCondition,
+                          WebElement element, String actualValue, Throwable lastError) {
+    this(driver, searchCriteria, prefix, message, expectedCondition, element, () -> actualValue(actualValue), lastError);
+  }
+
+  private ElementShouldNot(Driver driver, String searchCriteria, String prefix, String message, Condition expectedCondition,
+                           WebElement element, Supplier<String> actualValue, Throwable lastError) {
+    super(driver, () ->
       "Element should not " + prefix + expectedCondition + " {" + searchCriteria + '}' +
         (message != null ? " because " + message : "") +
         "\nElement: '" + Describe.describe(driver, element) + '\'' +
-        actualValue(expectedCondition, driver, element), lastError);
+        actualValue.get(), lastError);
+    this.element = element;
+  }
+
+  @Override
+  protected WebElement failedElement() {
+    return element;
   }
 
   @Override
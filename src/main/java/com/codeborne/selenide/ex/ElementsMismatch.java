@@ -0,0 +1,26 @@
+package com.codeborne.selenide.ex;
+
+import com.codeborne.selenide.impl.WebElementsCollection;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.codeborne.selenide.ElementsCollection.elementsToString;
+
+public class ElementsMismatch extends UIAssertionError {
+  public ElementsMismatch(WebElementsCollection collection, String expected, String explanation,
+                          List<Integer> failedIndexes, List<WebElement> actualElements, Exception lastError, long timeoutMs) {
+    super(collection.driver(), () ->
+      "\nExpected: " + expected +
+        (explanation == null ? "" : "\nBecause: " + explanation) +
+        "\nFailed elements: " + failedIndexes +
+        "\nCollection: " + collection.description() +
+        "\nElements: " + elementsToString(collection.driver(), actualElements), lastError);
+    super.timeoutMs = timeoutMs;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + ' ' + getMessage() + uiDetails();
+  }
+}
@@ -21,13 +21,11 @@ public class ErrorMessages {
   }
 
   static String actualValue(Condition condition, Driver driver, WebElement element) {
-    if (element != null) {
-      String actualValue = condition.actualValue(driver, element);
-      if (actualValue != null) {
-        return "\nActual value: " + actualValue;
-      }
-    }
-    return "";
+    return element == null ? "" : actualValue(condition.actualValue(driver, element));
+  }
+
+  static String actualValue(String actualValue) {
+    return actualValue == null ? "" : "\nActual value: " + actualValue;
   }
 
   public static String screenshot(Driver driver) {
@@ -11,10 +11,20 @@ import static com.codeborne.selenide.ElementsCollection.elementsToString;
 public class ListSizeMismatch extends UIAssertionError {
   public ListSizeMismatch(Driver driver, String operator, int expectedSize, String explanation, WebElementsCollection collection,
                           List<WebElement> actualElements, Exception lastError, long timeoutMs) {
-    super(driver,
+    this(driver, operator, expectedSize, explanation, collection, actualElements == null ? 0 : actualElements.size(),
+        actualElements, lastError, timeoutMs);
+  }
+
+  /**
+   * @param actualSize size of collection that failed the check
+   * @param actualElements elements to show in the message (may have been fetched after the check)
+   */
+  public ListSizeMismatch(Driver driver, String operator, int expectedSize, String explanation, WebElementsCollection collection,
+                          int actualSize, List<WebElement> actualElements, Exception lastError, long timeoutMs) {
+    super(driver, () ->
       ": expected: " + operator + " " + expectedSize +
         (explanation == null ? "" : " (because " + explanation + ")") +
-        ", actual: " + (actualElements == null ? 0 : actualElements.size()) +
+        ", actual: " + actualSize +
         ", collection: " + collection.description() +
         "\nElements: " + elementsToString(collection.driver(), actualElements), lastError
     );
@@ -3,6 +3,11 @@ package com.codeborne.selenide.ex;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.impl.Cleanup;
 import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
 
 import static com.codeborne.selenide.ex.ErrorMessages.causedBy;
 import static com.codeborne.selenide.ex.ErrorMessages.screenshot;
@@ -11,6 +16,8 @@ import static com.codeborne.selenide.ex.ErrorMessages.timeout;
 
 public class UIAssertionError extends AssertionError {
   private final Driver driver;
+  private transient Supplier<String> messageBuilder;
+  private String message;
 
   private String screenshot;
   public long timeoutMs;
@@ -29,6 +36,30 @@ public class UIAssertionError extends AssertionError {
     this.driver = driver;
   }
 
+  /**
+   * Message of this error is built only when it's needed for the first time.
+   * Makes sense for messages describing elements, because errors are often thrown only to retry the check.
+   */
+  protected UIAssertionError(Driver driver, Supplier<String> messageBuilder, Throwable cause) {
+    super(null, cause);
+    this.driver = driver;
+    this.messageBuilder = messageBuilder;
+  }
+
+  @Override
+  public synchronized String getMessage() {
+    if (messageBuilder != null) {
+      message = messageBuilder.get();
+      messageBuilder = null;
+    }
+    return message != null ? message : super.getMessage();
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    getMessage();
+    out.defaultWriteObject();
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + " " + getLocalizedMessage() + uiDetails();
@@ -38,6 +69,13 @@ public class UIAssertionError extends AssertionError {
     return screenshot(driver.config(), screenshot) + timeout(timeoutMs) + causedBy(getCause());
   }
 
+  /**
+   * @return the element which failed the check, or null if it's not known (e.g. it was not found)
+   */
+  protected WebElement failedElement() {
+    return null;
+  }
+
   /**
    * Get path to screenshot taken after failed test
    *
@@ -57,7 +95,12 @@ public class UIAssertionError extends AssertionError {
   private static Error wrapThrowable(Driver driver, Throwable error, long timeoutMs) {
     UIAssertionError uiError = error instanceof UIAssertionError ? (UIAssertionError) error : new UIAssertionError(driver, error);
     uiError.timeoutMs = timeoutMs;
-    uiError.screenshot = ScreenShotLaboratory.getInstance().formatScreenShotPath(driver);
+    // The error escapes to the test, so details are collected while the page still shows the failure.
+    // If the error is wrapped again by an outer element, the same details are reused.
+    uiError.getMessage();
+    if (uiError.screenshot == null) {
+      uiError.screenshot = ScreenShotLaboratory.getInstance().formatScreenShotPath(driver, uiError.failedElement());
+    }
     return uiError;
   }
 }
@@ -30,6 +30,38 @@ public class BySelectorCollection implements WebElementsCollection {
     return WebElementSelector.instance.findElements(driver, searchContext, selector);
   }
 
+  /**
+   * Fetches only the needed elements if the selector can be searched by JavaScript
+   */
+  @Override
+  public List<WebElement> getElements(Slice slice) {
+    SelectorChain chain = allElementsChain();
+    return chain == null ? slice.of(getElements()) : chain.findElements(slice);
+  }
+
+  /**
+   * Counts elements without fetching them if the selector can be searched by JavaScript
+   */
+  @Override
+  public int size() {
+    SelectorChain chain = allElementsChain();
+    return chain == null ? getElements().size() : chain.count();
+  }
+
+  /**
+   * @return search of all elements, or null if the selector cannot be searched by JavaScript
+   */
+  SelectorChain allElementsChain() {
+    return SelectorChain.isSupported(driver) ? selectorChain(0) : null;
+  }
+
+  /**
+   * @return search of the element with given index, or null if the selector cannot be searched by JavaScript
+   */
+  SelectorChain selectorChain(int index) {
+    return SelectorChain.of(driver, parent, selector, index);
+  }
+
   @Override
   public String description() {
     return parent == null ? Describe.selector(selector) :
@@ -0,0 +1,81 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.WebElement;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+
+/**
+ * Iterates over collection elements fetching them by chunks of given size (see {@link Slice}),
+ * so that the first element is available after fetching only the first chunk.
+ * <p>
+ * Chunks are fetched by their indexes, so elements added or removed during iteration may be skipped or repeated.
+ * <p>
+ * Only collections which can fetch a part of their elements in browser are iterated by chunks
+ * (see {@link BySelectorCollection#getElements(Slice)}). Other collections would fetch all their elements for every chunk,
+ * so they are fetched only once.
+ */
+public class ChunkedElementsIterator implements Iterator<SelenideElement> {
+  public static Stream<SelenideElement> stream(WebElementsCollection collection, int chunkSize) {
+    Iterator<SelenideElement> iterator = new ChunkedElementsIterator(collection, chunkSize);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED | NONNULL), false);
+  }
+
+  private final WebElementsCollection collection;
+  private final int chunkSize;
+  private final boolean fetchesChunksInBrowser;
+  private WebElementsCollection chunk;
+  private int offset;
+  private int index;
+
+  public ChunkedElementsIterator(WebElementsCollection collection, int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Chunk size should be positive, but was: " + chunkSize);
+    }
+    this.collection = collection;
+    this.chunkSize = chunkSize;
+    this.fetchesChunksInBrowser = collection instanceof BySelectorCollection &&
+        ((BySelectorCollection) collection).allElementsChain() != null;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (chunk == null) {
+      fetchChunk();
+    }
+    else if (fetchesChunksInBrowser && index == chunkSize) {
+      offset += chunkSize;
+      fetchChunk();
+    }
+    return index < chunk.getElements().size();
+  }
+
+  private void fetchChunk() {
+    List<WebElement> elements = fetchesChunksInBrowser ?
+        collection.getElements(new Slice(offset, chunkSize, false)) :
+        collection.getElements();
+    chunk = new WebElementsCollectionWrapper(collection.driver(), elements);
+    index = 0;
+  }
+
+  @Override
+  public SelenideElement next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return CollectionElement.wrap(chunk, index++);
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("Cannot remove elements from web page");
+  }
+}
@@ -32,7 +32,24 @@ public class CollectionElement extends WebElementSource {
 
   @Override
   public WebElement getWebElement() {
-    return collection.getElements().get(index);
+    return cached(this::findWebElement);
+  }
+
+  @Override
+  SelectorChain scriptedLookup() {
+    return collection instanceof BySelectorCollection && SelectorChain.isSupported(driver())
+        && !driver().config().cacheElementReferences() ?
+        ((BySelectorCollection) collection).selectorChain(index) : null;
+  }
+
+  private WebElement findWebElement() {
+    if (collection instanceof BySelectorCollection && SelectorChain.isSupported(driver())) {
+      SelectorChain chain = ((BySelectorCollection) collection).selectorChain(index);
+      if (chain != null) {
+        return chain.findElement();
+      }
+    }
+    return collection.getElements(Slice.at(index)).get(0);
   }
 
   @Override
@@ -42,7 +59,7 @@ public class CollectionElement extends WebElementSource {
 
   @Override
   public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
-    if (collection.getElements().isEmpty()) {
+    if (collection.getElements(Slice.first(1)).isEmpty()) {
       return new ElementNotFound(collection.driver(), collection.description(), visible, lastError);
     }
     return super.createElementNotFoundError(condition, lastError);
@@ -7,7 +7,6 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Proxy;
-import java.util.List;
 
 import static com.codeborne.selenide.Condition.visible;
 
@@ -32,11 +31,23 @@ public class CollectionElementByCondition extends WebElementSource {
     return collection.driver();
   }
 
+  /**
+   * Searches the element by a single JavaScript call if both the collection and the condition support it
+   * (see {@link com.codeborne.selenide.Config#searchViaJs()} and {@link com.codeborne.selenide.Config#conditionsViaJs()}),
+   * otherwise fetches all elements of the collection and checks them one by one.
+   */
   @Override
   public WebElement getWebElement() {
-    List<WebElement> list = collection.getElements();
+    SelectorChain search = JavaScriptConditions.instance.selectorChain(collection, condition);
+    if (search != null) {
+      WebElement element = JavaScriptConditions.instance.findFirst(search, condition);
+      if (element != null) {
+        return element;
+      }
+      throw new ElementNotFound(driver(), getSearchCriteria(), condition);
+    }
 
-    for (WebElement element : list) {
+    for (WebElement element : collection.getElements()) {
       if (condition.apply(driver(), element)) {
         return element;
       }
@@ -7,19 +7,45 @@ import org.openqa.selenium.InvalidElementStateException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
 public class Describe {
+  private static final String DESCRIBE_ELEMENTS = JavaScriptConditions.HELPERS +
+      "var elements = arguments[0], descriptions = [];\n" +
+      "for (var i = 0; i < elements.length; i++) {\n" +
+      "  var e = elements[i], attributes = {};\n" +
+      "  for (var j = 0; j < e.attributes.length; j++) {\n" +
+      "    var a = e.attributes[j];\n" +
+      "    if (a.name != 'style') attributes[a.name] = a.value;\n" +
+      "  }\n" +
+      "  attributes.value = selenide.attr(e, 'value');\n" +
+      "  if (!attributes.hasOwnProperty('type')) attributes.type = selenide.attr(e, 'type');\n" +
+      "  descriptions.push([e.tagName.toLowerCase(), attributes, selenide.isSelected(e), selenide.visible(e), selenide.text(e)]);\n" +
+      "}\n" +
+      "return descriptions;";
+
   private final Driver driver;
   private final WebElement element;
+  private final String tagName;
   private final StringBuilder sb = new StringBuilder();
 
   private Describe(Driver driver, WebElement element) {
+    this(driver, element, element.getTagName());
+  }
+
+  private Describe(Driver driver, WebElement element, String tagName) {
     this.driver = driver;
     this.element = element;
-    sb.append('<').append(element.getTagName());
+    this.tagName = tagName;
+    sb.append('<').append(tagName);
   }
 
   private Describe appendAttributes() {
@@ -54,6 +80,10 @@ public class Describe {
       sortedByName.put("type", element.getAttribute("type"));
     }
 
+    return attrs(sortedByName);
+  }
+
+  private Describe attrs(SortedMap<String, String> sortedByName) {
     for (Map.Entry<String, String> entry : sortedByName.entrySet()) {
       attr(entry.getKey(), entry.getValue());
     }
@@ -83,8 +113,11 @@ public class Describe {
   }
 
   private String serialize() {
-    String text = element.getText();
-    sb.append('>').append(text == null ? "" : text).append("</").append(element.getTagName()).append('>');
+    return serialize(element.getText());
+  }
+
+  private String serialize(String text) {
+    sb.append('>').append(text == null ? "" : text).append("</").append(tagName).append('>');
     return sb.toString();
   }
 
@@ -97,7 +130,73 @@ public class Describe {
     return sb.append('>').toString();
   }
 
+  /**
+   * Describes given element by a single JavaScript call if {@link com.codeborne.selenide.Config#conditionsViaJs()}
+   * is enabled, otherwise by a few WebDriver calls.
+   */
   public static String describe(Driver driver, WebElement element) {
+    if (element != null && describesByScript(driver)) {
+      try {
+        List<String> descriptions = describeByScript(driver, singletonList(element));
+        if (descriptions != null) {
+          return descriptions.get(0);
+        }
+      }
+      catch (WebDriverException elementDoesNotExist) {
+        // describe it again by WebDriver calls to report the problem in the same way
+      }
+    }
+    return describeByWebDriver(driver, element);
+  }
+
+  /**
+   * Describes all given elements by a single JavaScript call if {@link com.codeborne.selenide.Config#conditionsViaJs()}
+   * is enabled, otherwise describes them one by one.
+   */
+  public static List<String> describe(Driver driver, Collection<WebElement> elements) {
+    if (!elements.isEmpty() && describesByScript(driver)) {
+      try {
+        List<String> descriptions = describeByScript(driver, elements);
+        if (descriptions != null) {
+          return descriptions;
+        }
+      }
+      catch (WebDriverException someElementDoesNotExist) {
+        // describe them one by one to report the problem for the missing elements only
+      }
+    }
+    return elements.stream().map(element -> describeByWebDriver(driver, element)).collect(toList());
+  }
+
+  private static boolean describesByScript(Driver driver) {
+    return driver.supportsJavascript() && JavaScriptConditions.instance.isEnabled(driver) && !driver.browser().isHtmlUnit();
+  }
+
+  /**
+   * @return descriptions of given elements, or null if the browser has not returned them
+   */
+  @SuppressWarnings("unchecked")
+  private static List<String> describeByScript(Driver driver, Collection<WebElement> elements) {
+    List<List<Object>> descriptions = driver.executeJavaScript(DESCRIBE_ELEMENTS, elements);
+    if (descriptions == null || descriptions.size() != elements.size()) {
+      return null;
+    }
+    List<String> result = new ArrayList<>(descriptions.size());
+    for (List<Object> description : descriptions) {
+      Describe describe = new Describe(driver, null, (String) description.get(0));
+      describe.attrs(new TreeMap<>((Map<String, String>) description.get(1)));
+      if (Boolean.TRUE.equals(description.get(2))) {
+        describe.sb.append(' ').append("selected:true");
+      }
+      if (Boolean.FALSE.equals(description.get(3))) {
+        describe.sb.append(' ').append("displayed:false");
+      }
+      result.add(describe.serialize((String) description.get(4)));
+    }
+    return result;
+  }
+
+  private static String describeByWebDriver(Driver driver, WebElement element) {
     try {
       if (element == null) {
         return "null";
@@ -0,0 +1,107 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Sleeps between attempts until the page reports a DOM mutation, but not longer than the given delay.
+ * <p>
+ * Mutations are counted by a MutationObserver installed once per document.
+ * If the browser cannot run asynchronous scripts, the caller falls back to plain sleeping.
+ * <p>
+ * If {@link com.codeborne.selenide.Config#skipUnchangedDom()} is enabled, the waiter also tells
+ * whether DOM has changed since the previous wait, so that the caller can skip repeating a failed check.
+ * The counter starts from a random number, so that a newly loaded page doesn't report the same epoch as the previous one.
+ * <p>
+ * NB! MutationObserver sees only changes of DOM tree, attributes and texts. It doesn't see changes of element properties
+ * (like {@code value} or {@code checked} set by JavaScript), focus, CSS transitions and animations, scrolling and layout,
+ * loading of images, and conditions depending on time. That's why a check is never skipped more than
+ * {@value #FORCED_CHECK_EVERY} - 1 times in a row, and never skipped before timeout (see {@link #canSkipCheck(boolean)}).
+ */
+public class DomMutationWaiter {
+  static final String INSTALL_OBSERVER = "var mutations = window.__selenideMutations;\n" +
+      "if (!mutations) {\n" +
+      "  mutations = window.__selenideMutations = {epoch: Math.floor(Math.random() * 1000000000), listeners: []};\n" +
+      "  new MutationObserver(function() {\n" +
+      "    mutations.epoch++;\n" +
+      "    var listeners = mutations.listeners;\n" +
+      "    mutations.listeners = [];\n" +
+      "    for (var i = 0; i < listeners.length; i++) listeners[i]();\n" +
+      "  }).observe(document, {childList: true, subtree: true, attributes: true, characterData: true});\n" +
+      "}\n";
+
+  private static final String WAIT_FOR_MUTATION = INSTALL_OBSERVER +
+      "var delay = arguments[0], lastEpoch = arguments[1], callback = arguments[arguments.length - 1];\n" +
+      "if (lastEpoch >= 0 && mutations.epoch !== lastEpoch) {\n" +
+      "  callback(mutations.epoch);\n" +
+      "  return;\n" +
+      "}\n" +
+      "var done = false;\n" +
+      "var resume = function() {\n" +
+      "  if (!done) {\n" +
+      "    done = true;\n" +
+      "    callback(mutations.epoch);\n" +
+      "  }\n" +
+      "};\n" +
+      "mutations.listeners.push(resume);\n" +
+      "setTimeout(resume, delay);";
+
+  private static final long UNKNOWN_EPOCH = -1;
+  static final int FORCED_CHECK_EVERY = 5;
+
+  private final Driver driver;
+  private final boolean skipUnchangedDom;
+  private boolean supported;
+  private long previousEpoch = UNKNOWN_EPOCH;
+  private long epoch = UNKNOWN_EPOCH;
+  private int skippedChecks;
+
+  public DomMutationWaiter(Driver driver) {
+    this.driver = driver;
+    this.supported = driver.config().waitForDomMutations() && driver.supportsJavascript();
+    this.skipUnchangedDom = driver.config().skipUnchangedDom();
+  }
+
+  /**
+   * @return true if waited in browser, false if caller should sleep for {@code delay} ms by itself
+   */
+  public boolean waitForMutation(long delay) {
+    previousEpoch = epoch;
+    if (!supported || delay <= 0) {
+      previousEpoch = UNKNOWN_EPOCH;
+      return false;
+    }
+
+    try {
+      epoch = ((Number) driver.executeAsyncJavaScript(WAIT_FOR_MUTATION, delay, epoch)).longValue();
+      return true;
+    }
+    catch (WebDriverException e) {
+      supported = false;
+      previousEpoch = UNKNOWN_EPOCH;
+      return false;
+    }
+  }
+
+  /**
+   * @return true if MutationObserver has not seen any changes between the last two waits
+   * (always false unless {@link com.codeborne.selenide.Config#skipUnchangedDom()} is enabled)
+   */
+  public boolean isDomUnchanged() {
+    return skipUnchangedDom && previousEpoch != UNKNOWN_EPOCH && previousEpoch == epoch;
+  }
+
+  /**
+   * @param lastCheck true if timeout will be reached before the next check
+   * @return true if caller may skip repeating a failed condition check, because DOM has not changed since the previous one.
+   * Every {@value #FORCED_CHECK_EVERY}-th check and the last check before timeout are never skipped.
+   */
+  public boolean canSkipCheck(boolean lastCheck) {
+    if (lastCheck || !isDomUnchanged() || skippedChecks >= FORCED_CHECK_EVERY - 1) {
+      skippedChecks = 0;
+      return false;
+    }
+    skippedChecks++;
+    return true;
+  }
+}
@@ -45,7 +45,7 @@ public class DownloadFileWithProxyServer {
     try {
       clickable.click();
 
-      waiter.wait(filter, new HasDownloads(), timeout, config.pollingInterval());
+      waiter.wait(filter, new HasDownloads(), timeout, config.pollingInterval(), config.pollingStrategy());
       return firstDownloadedFile(anyClickableElement, filter, timeout);
     }
     finally {
@@ -7,9 +7,11 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Proxy;
+import java.util.LinkedList;
 import java.util.List;
 
 import static com.codeborne.selenide.Condition.exist;
@@ -70,9 +72,23 @@ public class ElementFinder extends WebElementSource {
 
   @Override
   public WebElement getWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
+    return cached(this::findWebElement);
+  }
+
+  private WebElement findWebElement() throws NoSuchElementException, IndexOutOfBoundsException {
+    if (SelectorChain.isSupported(driver)) {
+      SelectorChain chain = selectorChain();
+      if (chain != null && (chain.length() > 1 || index > 0)) {
+        return chain.findElement();
+      }
+    }
+    return findInside(getSearchContext());
+  }
+
+  private WebElement findInside(SearchContext context) {
     return index == 0 ?
-        WebElementSelector.instance.findElement(driver, getSearchContext(), criteria) :
-        WebElementSelector.instance.findElements(driver, getSearchContext(), criteria).get(index);
+        WebElementSelector.instance.findElement(driver, context, criteria) :
+        WebElementSelector.instance.findElements(driver, context, criteria).get(index);
   }
 
   @Override
@@ -82,22 +98,79 @@ public class ElementFinder extends WebElementSource {
         super.findAll();
   }
 
+  @Override
+  public void invalidateCache() {
+    super.invalidateCache();
+    if (parent instanceof SelenideElement) {
+      SelenideElementProxy.invalidateCache((SelenideElement) parent);
+    }
+  }
+
+  @Override
+  SelectorChain scriptedLookup() {
+    return SelectorChain.isSupported(driver) && !driver.config().cacheElementReferences() ? selectorChain() : null;
+  }
+
+  SelectorChain selectorChain() {
+    return SelectorChain.of(driver, parent, criteria, index);
+  }
+
   private SearchContext getSearchContext() {
     return parent == null ? driver().getWebDriver() :
         (parent instanceof SelenideElement) ? ((SelenideElement) parent).toWebElement() :
         parent;
   }
 
+  /**
+   * Reports missing parent instead of this element, if the parent doesn't exist.
+   */
   @Override
   public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
-    if (parent instanceof SelenideElement) {
-      ((SelenideElement) parent).should(exist);
+    checkParentExists();
+    return super.createElementNotFoundError(condition, lastError);
+  }
+
+  /**
+   * Looks up ancestors starting from the topmost one, each inside the previous one (only once and without waiting,
+   * because the timeout has already passed while searching this element).
+   */
+  private void checkParentExists() {
+    WebElement context = null;
+    for (WebElementSource ancestor : ancestors()) {
+      Throwable lastError = null;
+      try {
+        context = context == null ? ancestor.getWebElement() : ((ElementFinder) ancestor).findInside(context);
+        if (!(ancestor instanceof WebElementWrapper) || exist.apply(driver, context)) {
+          continue;
+        }
+      }
+      catch (WebDriverException | IndexOutOfBoundsException e) {
+        lastError = e;
+      }
+      throw new ElementNotFound(driver, ancestor.getSearchCriteria(), exist, lastError);
     }
-    else if (parent instanceof WebElement) {
-      WebElementWrapper.wrap(driver(), (WebElement) parent).should(exist);
+  }
+
+  /**
+   * @return ancestors of this element, starting from the topmost one (all but the topmost are {@link ElementFinder}s)
+   */
+  private List<WebElementSource> ancestors() {
+    LinkedList<WebElementSource> ancestors = new LinkedList<>();
+    WebElementSource ancestor = parentSource();
+    while (ancestor != null) {
+      ancestors.addFirst(ancestor);
+      ancestor = ancestor instanceof ElementFinder ? ((ElementFinder) ancestor).parentSource() : null;
     }
-    
-    return super.createElementNotFoundError(condition, lastError);
+    return ancestors;
+  }
+
+  private WebElementSource parentSource() {
+    WebElementSource source = parent instanceof SelenideElement ?
+        SelenideElementProxy.webElementSource((SelenideElement) parent) : null;
+    if (source == null && parent instanceof WebElement) {
+      source = new WebElementWrapper(driver, (WebElement) parent);
+    }
+    return source;
   }
 
   @Override
@@ -0,0 +1,42 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Gets texts of multiple elements.
+ * <p>
+ * If {@link com.codeborne.selenide.Config#conditionsViaJs()} is enabled, texts of all elements are fetched
+ * by a single JavaScript call (visible text, the same way as {@link JavaScriptConditions} gets it).
+ * Otherwise {@link WebElement#getText()} is called for every element.
+ */
+public class ElementTexts {
+  public static ElementTexts instance = new ElementTexts();
+
+  private static final String JS_CODE = JavaScriptConditions.HELPERS +
+      "var elements = arguments[0], texts = [];\n" +
+      "for (var i = 0; i < elements.length; i++) texts.push(selenide.text(elements[i]));\n" +
+      "return texts;";
+
+  /**
+   * @return true if texts of given number of elements are fetched by a single JavaScript call
+   */
+  public boolean fetchesAtOnce(Driver driver, int count) {
+    return count > 1 && JavaScriptConditions.instance.isEnabled(driver);
+  }
+
+  /**
+   * @throws org.openqa.selenium.WebDriverException if some of elements has disappeared
+   */
+  public List<String> of(Driver driver, Collection<WebElement> elements) {
+    if (fetchesAtOnce(driver, elements.size())) {
+      return driver.executeJavaScript(JS_CODE, elements);
+    }
+    return elements.stream().map(WebElement::getText).collect(toList());
+  }
+}
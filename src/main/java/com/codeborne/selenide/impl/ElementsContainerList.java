@@ -0,0 +1,63 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.SelenideElement;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * List of {@link ElementsContainer}s in a page object.
+ * <p>
+ * Elements are counted only when the list is accessed, and a container is created only for the accessed index.
+ * Container of index {@code i} is bound to the {@code i}-th element of the collection
+ * (see {@link CollectionElement}), so it is searched in browser again by every command and never gets stale.
+ */
+class ElementsContainerList extends AbstractList<ElementsContainer> {
+  private final WebElementsCollection collection;
+  private final Function<SelenideElement, ElementsContainer> containerFactory;
+  private final Map<Integer, ElementsContainer> containers = new HashMap<>();
+
+  ElementsContainerList(WebElementsCollection collection, Function<SelenideElement, ElementsContainer> containerFactory) {
+    this.collection = collection;
+    this.containerFactory = containerFactory;
+  }
+
+  @Override
+  public ElementsContainer get(int index) {
+    if (!containers.containsKey(index)) {
+      int size = size();
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+      }
+    }
+    return container(index);
+  }
+
+  @Override
+  public int size() {
+    return collection.size();
+  }
+
+  /**
+   * Counts elements only once for the whole iteration
+   */
+  @Override
+  public Iterator<ElementsContainer> iterator() {
+    int size = size();
+    List<ElementsContainer> result = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      result.add(container(i));
+    }
+    return result.iterator();
+  }
+
+  private ElementsContainer container(int index) {
+    return containers.computeIfAbsent(index, i -> containerFactory.apply(CollectionElement.wrap(collection, i)));
+  }
+}
@@ -11,10 +11,11 @@ import static java.util.Arrays.asList;
 public class Events {
   public static Events events = new Events();
 
-  Logger log = Logger.getLogger(Events.class.getName());
-  private final String jsCodeToTriggerEvent =
-      "var webElement = arguments[0];\n" +
-          "var eventNames = arguments[1];\n" +
+  /**
+   * JavaScript function {@code selenideFireEvents(webElement, eventNames)}
+   */
+  public static final String FIRE_EVENTS_FUNCTION =
+      "function selenideFireEvents(webElement, eventNames) {\n" +
           "for (var i = 0; i < eventNames.length; i++) {" +
           "  if (document.createEventObject) {\n" +  // IE
           "    var evt = document.createEventObject();\n" +
@@ -25,7 +26,11 @@ public class Events {
           "    evt.initEvent(eventNames[i], true, true );\n " +
           "    webElement.dispatchEvent(evt);\n" +
           "  }\n" +
-          '}';
+          "}\n" +
+          "}\n";
+
+  Logger log = Logger.getLogger(Events.class.getName());
+  private final String jsCodeToTriggerEvent = FIRE_EVENTS_FUNCTION + "selenideFireEvents(arguments[0], arguments[1]);";
 
   public void fireEvent(Driver driver, WebElement element, final String... event) {
     try {
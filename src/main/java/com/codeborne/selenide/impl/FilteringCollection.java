@@ -14,22 +14,57 @@ import static com.google.common.collect.Collections2.filter;
 public class FilteringCollection implements WebElementsCollection {
   private final WebElementsCollection originalCollection;
   private final Predicate<WebElement> filter;
+  private final Condition condition;
 
   public FilteringCollection(WebElementsCollection originalCollection, Predicate<WebElement> filter) {
     this.originalCollection = originalCollection;
     this.filter = filter;
+    this.condition = null;
   }
 
   public FilteringCollection(WebElementsCollection originalCollection, Condition filter) {
     this.originalCollection = originalCollection;
     this.filter = new ConditionPredicate(driver(), filter);
+    this.condition = filter;
   }
 
+  /**
+   * Searches and filters elements by a single JavaScript call if both the original collection and the condition support it
+   * (see {@link com.codeborne.selenide.Config#searchViaJs()} and {@link com.codeborne.selenide.Config#conditionsViaJs()}),
+   * otherwise fetches all elements and checks them one by one.
+   */
   @Override
   public List<WebElement> getElements() {
+    SelectorChain search = selectorChain();
+    if (search != null) {
+      return JavaScriptConditions.instance.filter(search, condition);
+    }
     return new ArrayList<>(filter(originalCollection.getElements(), filter));
   }
 
+  /**
+   * Stops checking elements one by one as soon as the requested part of filtered collection is found
+   */
+  @Override
+  public List<WebElement> getElements(Slice slice) {
+    if (slice.isFromEnd() || selectorChain() != null) {
+      return slice.of(getElements());
+    }
+
+    List<WebElement> matching = new ArrayList<>();
+    for (WebElement element : originalCollection.getElements()) {
+      if (matching.size() >= slice.requiredCount()) break;
+      if (filter.apply(element)) {
+        matching.add(element);
+      }
+    }
+    return slice.of(matching);
+  }
+
+  private SelectorChain selectorChain() {
+    return condition == null ? null : JavaScriptConditions.instance.selectorChain(originalCollection, condition);
+  }
+
   @Override
   public String description() {
     return originalCollection.description() + ".filter(" + filter + ')';
@@ -0,0 +1,68 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.ex.ElementShould;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+
+/**
+ * Action performed on an element by a single JavaScript call, together with checking that element is visible
+ * and (if {@link com.codeborne.selenide.Config#searchViaJs()} is enabled) searching the element.
+ * <p>
+ * Action is a JavaScript code using variables {@code element} and {@code args} (arguments given to {@link #execute}).
+ * It can return a value, which is then returned by {@link #execute}.
+ * <p>
+ * Errors are reported the same way as {@link WebElementSource#findAndAssertElementIsVisible()} does.
+ */
+public class FusedAction {
+  private static final String NOT_FOUND = "not found";
+  private static final String NOT_VISIBLE = "not visible";
+
+  public static boolean isEnabled(Driver driver) {
+    return driver.config().fusedCommands() && driver.supportsJavascript();
+  }
+
+  private final String jsCode;
+
+  public FusedAction(String action) {
+    this(action, true);
+  }
+
+  public FusedAction(String action, boolean requireVisible) {
+    this.jsCode = SelectorChain.FIND_FUNCTION + JavaScriptConditions.HELPERS +
+        "var element = arguments[0] || selenideFind(arguments[1] || document, arguments[2]);\n" +
+        "if (typeof element === 'number') return ['" + NOT_FOUND + "', element];\n" +
+        (requireVisible ? "if (!selenide.visible(element)) return ['" + NOT_VISIBLE + "', element];\n" : "") +
+        "var args = Array.prototype.slice.call(arguments, 3);\n" +
+        "return ['ok', (function(element, args) {\n" + action + "\n})(element, args)];";
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(WebElementSource locator, Object... args) {
+    Driver driver = locator.driver();
+    SelectorChain lookup = locator.scriptedLookup();
+    List<Object> arguments = new ArrayList<>(args.length + 3);
+    if (lookup == null) {
+      arguments.addAll(asList(locator.getWebElement(), null, null));
+    }
+    else {
+      arguments.addAll(asList(null, lookup.rootElement(), lookup.stepsArgument()));
+    }
+    arguments.addAll(asList(args));
+
+    List<Object> result = SelectorChain.execute(driver, jsCode, arguments.toArray());
+    String status = (String) result.get(0);
+    if (NOT_FOUND.equals(status)) {
+      throw locator.createElementNotFoundError(visible, lookup.notFound(((Number) result.get(1)).intValue()));
+    }
+    if (NOT_VISIBLE.equals(status)) {
+      throw new ElementShould(driver, locator.getSearchCriteria(), "be ", null, visible, (WebElement) result.get(1), null);
+    }
+    return (T) result.get(1);
+  }
+}
@@ -21,8 +21,17 @@ public class HeadOfCollection implements WebElementsCollection {
 
   @Override
   public List<WebElement> getElements() {
-    List<WebElement> source = originalCollection.getElements();
-    return source.subList(0, Math.min(source.size(), size));
+    return originalCollection.getElements(Slice.first(size));
+  }
+
+  @Override
+  public List<WebElement> getElements(Slice slice) {
+    return slice.isFromEnd() ? slice.of(getElements()) : originalCollection.getElements(slice.within(size));
+  }
+
+  @Override
+  public int size() {
+    return Math.min(originalCollection.size(), size);
   }
 
   @Override
@@ -0,0 +1,221 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Checks several conditions of one element, or one condition of many elements, by a single JavaScript call.
+ * <p>
+ * Used for conditions implementing {@link Condition#toJavaScript()}.
+ * Their expressions can use variable {@code element} and helper functions of object {@code selenide}:
+ * {@code visible(e)}, {@code text(e)}, {@code selectedText(e)}, {@code attr(e, name)}, {@code isSelected(e)},
+ * {@code isEnabled(e)}, {@code shortly(e)}, {@code contains(text, subtext)}, {@code equals(text, subtext)} etc.
+ * These functions mimic WebDriver methods {@code isDisplayed}, {@code getText} and {@code getAttribute},
+ * but don't reproduce them in every detail.
+ */
+public class JavaScriptConditions {
+  public static JavaScriptConditions instance = new JavaScriptConditions();
+
+  static final String HELPERS = "var selenide = {\n" +
+      "  visible: function(e) {\n" +
+      "    if (e.tagName === 'OPTION' || e.tagName === 'OPTGROUP') {\n" +
+      "      var select = e.parentNode;\n" +
+      "      while (select && select.tagName !== 'SELECT') select = select.parentNode;\n" +
+      "      return !!select && selenide.visible(select);\n" +
+      "    }\n" +
+      "    var style = window.getComputedStyle(e);\n" +
+      "    return style.visibility !== 'hidden' && style.visibility !== 'collapse' && style.opacity !== '0' &&\n" +
+      "      !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length);\n" +
+      "  },\n" +
+      "  text: function(e) {\n" +
+      "    return !selenide.visible(e) ? '' : e.innerText !== undefined ? e.innerText : e.textContent;\n" +
+      "  },\n" +
+      "  selectedText: function(e) {\n" +
+      "    var text = '';\n" +
+      "    for (var i = 0; i < e.options.length; i++) {\n" +
+      "      if (e.options[i].selected) text += selenide.text(e.options[i]);\n" +
+      "    }\n" +
+      "    return text;\n" +
+      "  },\n" +
+      "  isSelected: function(e) {\n" +
+      "    return e.tagName === 'OPTION' ? e.selected : !!e.checked;\n" +
+      "  },\n" +
+      "  shortly: function(e) {\n" +
+      "    var s = '<' + e.tagName.toLowerCase(), name = e.getAttribute('name');\n" +
+      "    if (e.id) s += ' id=\"' + e.id + '\"';\n" +
+      "    if (name) s += ' name=\"' + name + '\"';\n" +
+      "    return s + '>';\n" +
+      "  },\n" +
+      "  isEnabled: function(e) {\n" +
+      "    var matches = e.matches || e.msMatchesSelector || e.webkitMatchesSelector;\n" +
+      "    return !matches.call(e, ':disabled');\n" +
+      "  },\n" +
+      "  booleanAttributes: ['async', 'autofocus', 'autoplay', 'checked', 'compact', 'complete', 'controls', 'declare',\n" +
+      "    'defaultchecked', 'defaultselected', 'defer', 'disabled', 'draggable', 'ended', 'formnovalidate', 'hidden',\n" +
+      "    'indeterminate', 'iscontenteditable', 'ismap', 'itemscope', 'loop', 'multiple', 'muted', 'nohref', 'noresize',\n" +
+      "    'noshade', 'novalidate', 'nowrap', 'open', 'paused', 'pubdate', 'readonly', 'required', 'reversed', 'scoped',\n" +
+      "    'seamless', 'seeking', 'selected', 'spellcheck', 'truespeed', 'willvalidate'],\n" +
+      "  attr: function(e, name) {\n" +
+      "    var lower = name.toLowerCase();\n" +
+      "    if (lower === 'style') return e.style.cssText;\n" +
+      "    if ((lower === 'selected' || lower === 'checked') &&\n" +
+      "      (e.tagName === 'OPTION' || e.type === 'checkbox' || e.type === 'radio')) {\n" +
+      "      return selenide.isSelected(e) ? 'true' : null;\n" +
+      "    }\n" +
+      "    if ((e.tagName === 'IMG' && lower === 'src') || (e.tagName === 'A' && lower === 'href')) {\n" +
+      "      return e.getAttribute(name) === null ? null : e[lower];\n" +
+      "    }\n" +
+      "    var property = lower === 'class' ? 'className' : lower === 'readonly' ? 'readOnly' : name;\n" +
+      "    if (selenide.booleanAttributes.indexOf(lower) >= 0) {\n" +
+      "      return e.hasAttribute(name) || e[property] === true ? 'true' : null;\n" +
+      "    }\n" +
+      "    var value = e[property];\n" +
+      "    if (value === undefined || value === null || typeof value === 'object' || typeof value === 'function') {\n" +
+      "      value = e.getAttribute(name);\n" +
+      "    }\n" +
+      "    return value === undefined || value === null ? null : String(value);\n" +
+      "  },\n" +
+      "  reduceSpaces: function(text) {\n" +
+      "    return text.replace(/[\\s\\u00a0]+/g, ' ').trim();\n" +
+      "  },\n" +
+      "  contains: function(text, subtext) {\n" +
+      "    return selenide.reduceSpaces(text.toLowerCase()).indexOf(selenide.reduceSpaces(subtext.toLowerCase())) >= 0;\n" +
+      "  },\n" +
+      "  containsCaseSensitive: function(text, subtext) {\n" +
+      "    return selenide.reduceSpaces(text).indexOf(selenide.reduceSpaces(subtext)) >= 0;\n" +
+      "  },\n" +
+      "  equals: function(text, subtext) {\n" +
+      "    return selenide.reduceSpaces(text).toLowerCase() === selenide.reduceSpaces(subtext).toLowerCase();\n" +
+      "  },\n" +
+      "  equalsCaseSensitive: function(text, subtext) {\n" +
+      "    return selenide.reduceSpaces(text) === selenide.reduceSpaces(subtext);\n" +
+      "  }\n" +
+      "};\n";
+
+  /**
+   * @return JavaScript string literal with given text
+   */
+  public static String quote(String text) {
+    StringBuilder sb = new StringBuilder(text.length() + 2).append('\'');
+    for (char c : text.toCharArray()) {
+      if (c == '\'' || c == '\\') {
+        sb.append('\\').append(c);
+      }
+      else if (c < ' ' || c == '\u2028' || c == '\u2029') {
+        sb.append(String.format("\\u%04x", (int) c));
+      }
+      else {
+        sb.append(c);
+      }
+    }
+    return sb.append('\'').toString();
+  }
+
+  public boolean isEnabled(Driver driver) {
+    return driver.config().conditionsViaJs() && driver.supportsJavascript();
+  }
+
+  /**
+   * @return true if conditions checking via JavaScript is enabled and all given conditions support it
+   */
+  public boolean canCheck(Driver driver, List<Condition> conditions) {
+    if (!isEnabled(driver)) return false;
+
+    for (Condition condition : conditions) {
+      if (condition.toJavaScript() == null) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Checks all given conditions and gets the actual value of the first failed one (see {@link Condition#actualValueJavaScript()})
+   * by the same call.
+   *
+   * @return the first condition not matched by given element, or null if element matches all of them
+   */
+  public Mismatch firstFailed(Driver driver, WebElement element, List<Condition> conditions) {
+    StringBuilder js = new StringBuilder(HELPERS).append("var element = arguments[0];\n");
+    for (int i = 0; i < conditions.size(); i++) {
+      String actualValue = conditions.get(i).actualValueJavaScript();
+      js.append("if (!(").append(conditions.get(i).toJavaScript()).append(")) return [").append(i).append(", ")
+          .append(actualValue == null ? "null" : actualValue).append("];\n");
+    }
+    js.append("return null;");
+    List<Object> result = driver.executeJavaScript(js.toString(), element);
+    if (result == null) {
+      return null;
+    }
+    Object actualValue = result.get(1);
+    return new Mismatch(((Number) result.get(0)).intValue(), actualValue == null ? null : String.valueOf(actualValue));
+  }
+
+  /**
+   * @return search of given collection, if both the search and given condition can be executed by a single JavaScript call,
+   * or null otherwise
+   */
+  SelectorChain selectorChain(WebElementsCollection collection, Condition condition) {
+    if (!(collection instanceof BySelectorCollection) || !canCheck(collection.driver(), singletonList(condition))) {
+      return null;
+    }
+    return ((BySelectorCollection) collection).allElementsChain();
+  }
+
+  /**
+   * @return elements found by given search and matching given condition (by a single JavaScript call)
+   */
+  List<WebElement> filter(SelectorChain search, Condition condition) {
+    List<WebElement> matching = search.findAllAndThen(HELPERS + forEach("all", condition, "matching.push(element);", "matching"));
+    return new ArrayList<>(matching);
+  }
+
+  /**
+   * @return the first element found by given search and matching given condition (by a single JavaScript call),
+   * or null if there is no such element
+   */
+  WebElement findFirst(SelectorChain search, Condition condition) {
+    return search.findAllAndThen(HELPERS + forEach("all", condition, "return element;", "null"));
+  }
+
+  /**
+   * @return indexes of elements matching given condition
+   */
+  public List<Integer> matchingIndexes(Driver driver, List<WebElement> elements, Condition condition) {
+    String js = HELPERS + "var elements = arguments[0];\n" + forEach("elements", condition, "matching.push(i);", "matching");
+    List<Number> matching = driver.executeJavaScript(js, elements);
+    return matching.stream().map(Number::intValue).collect(toList());
+  }
+
+  private String forEach(String elements, Condition condition, String onMatch, String result) {
+    return "var matching = [];\n" +
+        "for (var i = 0; i < " + elements + ".length; i++) {\n" +
+        "  var element = " + elements + "[i];\n" +
+        "  if (" + condition.toJavaScript() + ") " + onMatch + "\n" +
+        "}\n" +
+        "return " + result + ";";
+  }
+
+  /**
+   * Condition not matched by element, and the actual value of element
+   */
+  public static class Mismatch {
+    public final int index;
+
+    /**
+     * Actual value returned by {@link Condition#actualValueJavaScript()}
+     * (null if the condition doesn't provide it or there is no actual value)
+     */
+    public final String actualValue;
+
+    Mismatch(int index, String actualValue) {
+      this.index = index;
+      this.actualValue = actualValue;
+    }
+  }
+}
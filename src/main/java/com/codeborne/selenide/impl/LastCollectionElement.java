@@ -7,7 +7,6 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Proxy;
-import java.util.List;
 
 import static com.codeborne.selenide.Condition.visible;
 
@@ -31,11 +30,7 @@ public class LastCollectionElement extends WebElementSource {
 
   @Override
   public WebElement getWebElement() {
-    return lastElementOf(collection.getElements());
-  }
-
-  private <T> T lastElementOf(List<T> collection) {
-    return collection.get(collection.size() - 1);
+    return collection.getElements(Slice.last(1)).get(0);
   }
 
   @Override
@@ -45,7 +40,7 @@ public class LastCollectionElement extends WebElementSource {
 
   @Override
   public ElementNotFound createElementNotFoundError(Condition condition, Throwable lastError) {
-    if (collection.getElements().isEmpty()) {
+    if (collection.getElements(Slice.first(1)).isEmpty()) {
       return new ElementNotFound(collection.driver(), collection.description(), visible, lastError);
     }
     return super.createElementNotFoundError(condition, lastError);
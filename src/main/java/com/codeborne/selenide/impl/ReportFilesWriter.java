@@ -0,0 +1,114 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.ReportsWriteMode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.logging.Logger;
+
+import static com.codeborne.selenide.ReportsWriteMode.ASYNC_DROPPING;
+import static com.codeborne.selenide.ReportsWriteMode.SYNC;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Writes report files (screenshots and page sources) either immediately or by a background thread
+ * (see {@link com.codeborne.selenide.Config#reportsWriteMode()}).
+ * <p>
+ * The queue of files waiting to be written is bounded, so that slow disk doesn't make tests run out of memory.
+ * All queued files are written by {@link #flush()}, which is also called before JVM exits.
+ * <p>
+ * All report files of {@link ScreenShotLaboratory} are written by this class.
+ */
+public class ReportFilesWriter {
+  private static final Logger log = Logger.getLogger(ReportFilesWriter.class.getName());
+  private static final ReportFilesWriter instance = new ReportFilesWriter();
+
+  private static final int QUEUE_SIZE = 16;
+  private static final long FLUSH_TIMEOUT_SECONDS = 60;
+
+  public static ReportFilesWriter getInstance() {
+    return instance;
+  }
+
+  private ThreadPoolExecutor executor;
+  private boolean flushOnExit;
+
+  public void write(ReportsWriteMode mode, byte[] content, File file) {
+    if (mode == SYNC || !enqueue(content, file)) {
+      if (mode == ASYNC_DROPPING) {
+        log.warning("Skipped writing " + file + " because too many report files are waiting to be written");
+      }
+      else {
+        writeNow(content, file);
+      }
+    }
+  }
+
+  /**
+   * Waits until all queued files are written
+   */
+  public void flush() {
+    ThreadPoolExecutor writingExecutor;
+    synchronized (this) {
+      writingExecutor = executor;
+      executor = null;
+    }
+    if (writingExecutor == null) return;
+
+    writingExecutor.shutdown();
+    try {
+      if (!writingExecutor.awaitTermination(FLUSH_TIMEOUT_SECONDS, SECONDS)) {
+        log.severe("Failed to write " + writingExecutor.getQueue().size() + " report files in " + FLUSH_TIMEOUT_SECONDS + " s.");
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized boolean enqueue(byte[] content, File file) {
+    if (executor == null) {
+      executor = new ThreadPoolExecutor(1, 1, 0, SECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE), runnable -> {
+        Thread thread = new Thread(runnable, "selenide-reports-writer");
+        thread.setDaemon(true);
+        return thread;
+      });
+      if (!flushOnExit) {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush));
+        flushOnExit = true;
+      }
+    }
+    try {
+      executor.execute(() -> writeNow(content, file));
+      return true;
+    }
+    catch (RejectedExecutionException queueIsFull) {
+      return false;
+    }
+  }
+
+  protected void writeNow(byte[] content, File file) {
+    try {
+      ensureFolderExists(file);
+      Files.write(file.toPath(), content);
+    }
+    catch (IOException e) {
+      log.log(SEVERE, "Failed to write file " + file.getAbsolutePath(), e);
+    }
+  }
+
+  void ensureFolderExists(File file) {
+    File folder = file.getAbsoluteFile().getParentFile();
+    if (!folder.exists()) {
+      log.info("Creating folder: " + folder);
+      if (!folder.mkdirs() && !folder.isDirectory()) {
+        log.severe("Failed to create " + folder);
+      }
+    }
+  }
+}
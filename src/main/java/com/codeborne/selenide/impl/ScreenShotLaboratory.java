@@ -2,11 +2,13 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.PageSourceMode;
 import com.codeborne.selenide.SelenideTargetLocator;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.UnhandledAlertException;
 import org.openqa.selenium.WebDriver;
@@ -17,13 +19,13 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.awt.image.RasterFormatException;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +35,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import static com.codeborne.selenide.ReportsWriteMode.SYNC;
 import static java.io.File.separatorChar;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.logging.Level.SEVERE;
@@ -42,17 +45,44 @@ import static org.openqa.selenium.OutputType.FILE;
 public class ScreenShotLaboratory {
   private static final Logger log = Logger.getLogger(ScreenShotLaboratory.class.getName());
   private static final ScreenShotLaboratory instance = new ScreenShotLaboratory();
+  private static final int MAX_PAGE_SOURCE_LENGTH = 100_000;
+  private static final String ELEMENT_SOURCE = "var element = arguments[0], limit = arguments[1];\n" +
+      "if (!element) return document.documentElement.outerHTML.substring(0, limit);\n" +
+      "var path = [];\n" +
+      "for (var e = element; e && e.nodeType === 1; e = e.parentNode) {\n" +
+      "  var className = typeof e.className === 'string' ? e.className.trim() : '';\n" +
+      "  path.unshift(e.tagName.toLowerCase() + (e.id ? '#' + e.id : '') +\n" +
+      "    (className ? '.' + className.split(/\\s+/).join('.') : ''));\n" +
+      "}\n" +
+      "var parent = element.parentNode, html = element.outerHTML;\n" +
+      "if (parent && parent.nodeType === 1) {\n" +
+      "  var container = parent.cloneNode(false);\n" +
+      "  for (var child = parent.firstChild; child; child = child.nextSibling) {\n" +
+      "    container.appendChild(child.cloneNode(child === element));\n" +
+      "  }\n" +
+      "  html = container.outerHTML;\n" +
+      "}\n" +
+      "return ('<!-- ' + path.join(' > ') + ' -->\\n' + html).substring(0, limit);";
 
   public static ScreenShotLaboratory getInstance() {
     return instance;
   }
 
+  protected final ReportFilesWriter reportFilesWriter;
   protected final List<File> allScreenshots = new ArrayList<>();
   protected AtomicLong screenshotCounter = new AtomicLong();
   protected ThreadLocal<String> currentContext = ThreadLocal.withInitial(() -> "");
   protected ThreadLocal<List<File>> currentContextScreenshots = new ThreadLocal<>();
   protected Set<String> printedErrors = new ConcurrentSkipListSet<>();
 
+  public ScreenShotLaboratory() {
+    this(ReportFilesWriter.getInstance());
+  }
+
+  protected ScreenShotLaboratory(ReportFilesWriter reportFilesWriter) {
+    this.reportFilesWriter = reportFilesWriter;
+  }
+
   public String takeScreenShot(Driver driver, String className, String methodName) {
     return takeScreenShot(driver, getScreenshotFileName(className, methodName));
   }
@@ -71,16 +101,30 @@ public class ScreenShotLaboratory {
    * Stores 2 files: html of page (if "savePageSource" option is enabled), and (if possible) image in PNG format.
    *
    * @param fileName name of file (without extension) to store screenshot to.
-   * @return the name of last saved screenshot or null if failed to create screenshot
+   * @return the name of last saved screenshot or null if failed to create screenshot.
+   * NB! If {@link Config#reportsWriteMode()} is asynchronous, the file may be not written yet (see {@link #flush()}).
    */
   public String takeScreenShot(Driver driver, String fileName) {
+    return takeFailureScreenShot(driver, fileName, null);
+  }
+
+  /**
+   * Takes screenshot of current browser window, the same way as {@link #takeScreenShot(Driver, String)} does.
+   *
+   * @param element the failed element (or null if it's not known); if {@link Config#pageSourceMode()} is
+   *                {@link PageSourceMode#ELEMENT}, only this element and its neighbourhood are stored instead of
+   *                the whole page source
+   */
+  public String takeFailureScreenShot(Driver driver, String fileName, WebElement element) {
     Config config = driver.config();
 
     return ifWebDriverStarted(driver, () ->
       ifReportsFolderNotNull(config, () -> {
         File screenshot = null;
         if (config.savePageSource()) {
-          screenshot = savePageSourceToFile(config, fileName, driver.getWebDriver());
+          screenshot = config.pageSourceMode() == PageSourceMode.ELEMENT && driver.supportsJavascript() ?
+            saveElementSourceToFile(config, fileName, driver, element) :
+            savePageSourceToFile(config, fileName, driver.getWebDriver());
         }
 
         File imageFile = savePageImageToFile(config, fileName, driver.getWebDriver());
@@ -94,6 +138,9 @@ public class ScreenShotLaboratory {
       }));
   }
 
+  /**
+   * Screenshots of elements are always written immediately, because the caller gets the file to work with it
+   */
   public File takeScreenshot(Driver driver, WebElement element) {
     try {
       BufferedImage destination = takeScreenshotAsImage(driver, element);
@@ -101,8 +148,7 @@ public class ScreenShotLaboratory {
         return null;
       }
       File screenshotOfElement = new File(driver.config().reportsFolder(), generateScreenshotFileName() + ".png");
-      ensureFolderExists(screenshotOfElement);
-      ImageIO.write(destination, "png", screenshotOfElement);
+      reportFilesWriter.write(SYNC, toPng(destination), screenshotOfElement);
       return screenshotOfElement;
     }
     catch (IOException e) {
@@ -151,17 +197,21 @@ public class ScreenShotLaboratory {
     return currentContext.get() + timestamp() + "." + screenshotCounter.getAndIncrement();
   }
 
+  /**
+   * @deprecated report files are written by {@link ReportFilesWriter}, which creates missing folders itself
+   */
+  @Deprecated
   protected File ensureFolderExists(File targetFile) {
-    File folder = targetFile.getParentFile();
-    if (!folder.exists()) {
-      log.info("Creating folder: " + folder);
-      if (!folder.mkdirs()) {
-        log.severe("Failed to create " + folder);
-      }
-    }
+    reportFilesWriter.ensureFolderExists(targetFile);
     return targetFile;
   }
 
+  private byte[] toPng(BufferedImage image) throws IOException {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", png);
+    return png.toByteArray();
+  }
+
   protected synchronized void printOnce(String action, Throwable error) {
     if (!printedErrors.contains(action)) {
       log.log(SEVERE, error.getMessage(), error);
@@ -183,8 +233,7 @@ public class ScreenShotLaboratory {
         return null;
       }
       File screenshotOfElement = new File(driver.config().reportsFolder(), generateScreenshotFileName() + ".png");
-      ensureFolderExists(screenshotOfElement);
-      ImageIO.write(dest, "png", screenshotOfElement);
+      reportFilesWriter.write(SYNC, toPng(dest), screenshotOfElement);
       return screenshotOfElement;
     }
     catch (IOException e) {
@@ -312,46 +361,90 @@ public class ScreenShotLaboratory {
     File pageSource = new File(config.reportsFolder(), fileName + ".html");
 
     try {
-      writeToFile(webdriver.getPageSource(), pageSource);
+      writeReport(config, webdriver.getPageSource().getBytes(UTF_8), pageSource);
     }
     catch (UnhandledAlertException e) {
-      if (retryIfAlert) {
-        try {
-          Alert alert = webdriver.switchTo().alert();
-          log.severe(e + ": " + alert.getText());
-          alert.accept();
-          savePageSourceToFile(config, fileName, webdriver, false);
-        }
-        catch (Exception unableToCloseAlert) {
-          log.severe("Failed to close alert: " + unableToCloseAlert);
-        }
-      }
-      else {
+      if (!retryIfAlert) {
         printOnce("savePageSourceToFile", e);
       }
+      else if (closeAlert(webdriver, e)) {
+        savePageSourceToFile(config, fileName, webdriver, false);
+      }
     }
     catch (WebDriverException e) {
       log.log(WARNING, "Failed to save page source to " + fileName + " because of " + e);
-      writeToFile(e.toString(), pageSource);
+      writeReport(config, e.toString().getBytes(UTF_8), pageSource);
       return pageSource;
     }
     catch (RuntimeException e) {
       log.log(SEVERE, "Failed to save page source to " + fileName, e);
-      writeToFile(e.toString(), pageSource);
+      writeReport(config, e.toString().getBytes(UTF_8), pageSource);
     }
     return pageSource;
   }
 
-  protected File takeScreenshotImage(Config config, TakesScreenshot driver, String fileName) {
+  /**
+   * Stores only the given element with its siblings, parent and path of its ancestors, all fetched by a single script.
+   * If the element is not known or not available anymore, stores the beginning of page source.
+   */
+  protected File saveElementSourceToFile(Config config, String fileName, Driver driver, WebElement element) {
+    return saveElementSourceToFile(config, fileName, driver, element, true);
+  }
+
+  protected File saveElementSourceToFile(Config config, String fileName, Driver driver, WebElement element, boolean retryIfAlert) {
+    File pageSource = new File(config.reportsFolder(), fileName + ".html");
     try {
-      File scrFile = driver.getScreenshotAs(FILE);
-      File imageFile = new File(config.reportsFolder(), fileName + ".png");
+      writeReport(config, elementSource(driver, element).getBytes(UTF_8), pageSource);
+    }
+    catch (UnhandledAlertException e) {
+      if (!retryIfAlert) {
+        printOnce("saveElementSourceToFile", e);
+      }
+      else if (closeAlert(driver.getWebDriver(), e)) {
+        saveElementSourceToFile(config, fileName, driver, element, false);
+      }
+    }
+    catch (WebDriverException e) {
+      log.log(WARNING, "Failed to save page source to " + fileName + " because of " + e);
+      writeReport(config, e.toString().getBytes(UTF_8), pageSource);
+    }
+    return pageSource;
+  }
+
+  private boolean closeAlert(WebDriver webdriver, UnhandledAlertException e) {
+    try {
+      Alert alert = webdriver.switchTo().alert();
+      log.severe(e + ": " + alert.getText());
+      alert.accept();
+      return true;
+    }
+    catch (Exception unableToCloseAlert) {
+      log.severe("Failed to close alert: " + unableToCloseAlert);
+      return false;
+    }
+  }
+
+  private String elementSource(Driver driver, WebElement element) {
+    if (element != null) {
       try {
-        copyFile(scrFile, imageFile);
+        return driver.executeJavaScript(ELEMENT_SOURCE, element, MAX_PAGE_SOURCE_LENGTH);
       }
-      catch (IOException e) {
-        log.log(SEVERE, "Failed to save screenshot to " + imageFile, e);
+      catch (StaleElementReferenceException elementHasDisappeared) {
+        // store the beginning of page source instead
       }
+    }
+    return driver.executeJavaScript(ELEMENT_SOURCE, null, MAX_PAGE_SOURCE_LENGTH);
+  }
+
+  /**
+   * Takes screenshot as bytes (without temporary files) and writes it to disk,
+   * either immediately or by a background thread (see {@link Config#reportsWriteMode()})
+   */
+  protected File takeScreenshotImage(Config config, TakesScreenshot driver, String fileName) {
+    try {
+      byte[] screenshot = driver.getScreenshotAs(OutputType.BYTES);
+      File imageFile = new File(config.reportsFolder(), fileName + ".png");
+      writeReport(config, screenshot, imageFile);
       return imageFile;
     }
     catch (WebDriverException e) {
@@ -360,31 +453,45 @@ public class ScreenShotLaboratory {
     }
   }
 
+  protected void writeReport(Config config, byte[] content, File targetFile) {
+    reportFilesWriter.write(config.reportsWriteMode(), content, targetFile);
+  }
+
+  /**
+   * Waits until all screenshots and page sources are written to disk
+   */
+  public void flush() {
+    reportFilesWriter.flush();
+  }
+
+  /**
+   * @deprecated use {@link #writeReport(Config, byte[], File)}
+   */
+  @Deprecated
   protected void copyFile(File sourceFile, File targetFile) throws IOException {
-    try (FileInputStream in = new FileInputStream(sourceFile)) {
-      copyFile(in, targetFile);
-    }
+    reportFilesWriter.write(SYNC, Files.readAllBytes(sourceFile.toPath()), targetFile);
   }
 
+  /**
+   * @deprecated use {@link #writeReport(Config, byte[], File)}
+   */
+  @Deprecated
   protected void copyFile(InputStream in, File targetFile) throws IOException {
-    ensureFolderExists(targetFile);
-
-    try (FileOutputStream out = new FileOutputStream(targetFile)) {
-      byte[] buffer = new byte[1024];
-      int len;
-      while ((len = in.read(buffer)) != -1) {
-        out.write(buffer, 0, len);
-      }
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    byte[] buffer = new byte[1024];
+    int len;
+    while ((len = in.read(buffer)) != -1) {
+      content.write(buffer, 0, len);
     }
+    reportFilesWriter.write(SYNC, content.toByteArray(), targetFile);
   }
 
+  /**
+   * @deprecated use {@link #writeReport(Config, byte[], File)}
+   */
+  @Deprecated
   protected void writeToFile(String content, File targetFile) {
-    try (ByteArrayInputStream in = new ByteArrayInputStream(content.getBytes(UTF_8))) {
-      copyFile(in, targetFile);
-    }
-    catch (IOException e) {
-      log.log(SEVERE, "Failed to write file " + targetFile.getAbsolutePath(), e);
-    }
+    reportFilesWriter.write(SYNC, content.getBytes(UTF_8), targetFile);
   }
 
   public void startContext(String className, String methodName) {
@@ -404,25 +511,40 @@ public class ScreenShotLaboratory {
     return result;
   }
 
+  /**
+   * Waits until all screenshots are written to disk (see {@link #flush()}), so that the returned files exist
+   */
   public List<File> getScreenshots() {
+    flush();
     synchronized (allScreenshots) {
       return Collections.unmodifiableList(allScreenshots);
     }
   }
 
+  /**
+   * Waits until all screenshots are written to disk (see {@link #flush()}), so that the returned file exists
+   */
   public File getLastScreenshot() {
+    flush();
     synchronized (allScreenshots) {
       return allScreenshots.isEmpty() ? null : allScreenshots.get(allScreenshots.size() - 1);
     }
   }
 
   public String formatScreenShotPath(Driver driver) {
+    return formatScreenShotPath(driver, null);
+  }
+
+  /**
+   * @param element the failed element (or null if it's not known), see {@link #takeFailureScreenShot(Driver, String, WebElement)}
+   */
+  public String formatScreenShotPath(Driver driver, WebElement element) {
     if (!driver.config().screenshots()) {
       log.config("Automatic screenshots are disabled.");
       return "";
     }
 
-    String screenshot = takeScreenShot(driver);
+    String screenshot = element == null ? takeScreenShot(driver) : takeFailureScreenShot(driver, generateScreenshotFileName(), element);
     if (screenshot == null) {
       return "";
     }
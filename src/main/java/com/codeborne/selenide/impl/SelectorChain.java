@@ -0,0 +1,289 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeborne.selenide.SelectorMode.CSS;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Nested searches like {@code $("#a").$(".b").$x("./c")} executed by a single JavaScript call.
+ * Indexed searches like {@code $$("tr").get(1500)} return only the requested element instead of all matching ones,
+ * and searches of collection parts like {@code $$("tr").last(10)} return only the requested elements.
+ * <p>
+ * Every step is searched inside the element found by the previous step, exactly like separate searches do.
+ * Only CSS and XPath selectors are supported.
+ */
+class SelectorChain {
+  private static final String CSS_STEP = "css";
+  private static final String XPATH_STEP = "xpath";
+  private static final String INVALID_SELECTOR = "Invalid selector ";
+
+  /**
+   * JavaScript function {@code selenideFind(context, steps)} returning the found element,
+   * or the index of the step that found nothing
+   */
+  static final String FIND_FUNCTION = "function selenideFind(context, steps) {\n" +
+      "  for (var i = 0; i < steps.length; i++) {\n" +
+      "    var type = steps[i][0], selector = steps[i][1], index = steps[i][2], found;\n" +
+      "    try {\n" +
+      "      if (type === 'css') {\n" +
+      "        found = index === 0 ? context.querySelector(selector) : context.querySelectorAll(selector)[index];\n" +
+      "      }\n" +
+      "      else if (index === 0) {\n" +
+      "        found = document.evaluate(selector, context, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;\n" +
+      "      }\n" +
+      "      else {\n" +
+      "        found = document.evaluate(selector, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null)\n" +
+      "          .snapshotItem(index);\n" +
+      "      }\n" +
+      "    }\n" +
+      "    catch (e) {\n" +
+      "      throw new Error('" + INVALID_SELECTOR + "' + selector + ': ' + e.message);\n" +
+      "    }\n" +
+      "    if (!found || found.nodeType !== 1) return i;\n" +
+      "    context = found;\n" +
+      "  }\n" +
+      "  return context;\n" +
+      "}\n";
+
+  private static final String JS_CODE = FIND_FUNCTION + "return selenideFind(arguments[0] || document, arguments[1]);";
+
+  /**
+   * Finds all elements matching the last step (ignoring its index) into variable {@code all},
+   * or returns index of the step that found nothing
+   */
+  private static final String FIND_ALL = FIND_FUNCTION +
+      "var steps = arguments[1];\n" +
+      "var context = selenideFind(arguments[0] || document, steps.slice(0, steps.length - 1));\n" +
+      "if (typeof context === 'number') return context;\n" +
+      "var type = steps[steps.length - 1][0], selector = steps[steps.length - 1][1], all = [];\n" +
+      "try {\n" +
+      "  if (type === 'css') {\n" +
+      "    all = Array.prototype.slice.call(context.querySelectorAll(selector));\n" +
+      "  }\n" +
+      "  else {\n" +
+      "    var found = document.evaluate(selector, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n" +
+      "    for (var i = 0; i < found.snapshotLength; i++) {\n" +
+      "      if (found.snapshotItem(i).nodeType === 1) all.push(found.snapshotItem(i));\n" +
+      "    }\n" +
+      "  }\n" +
+      "}\n" +
+      "catch (e) {\n" +
+      "  throw new Error('" + INVALID_SELECTOR + "' + selector + ': ' + e.message);\n" +
+      "}\n";
+
+  private static final String JS_CODE_SLICE = FIND_ALL +
+      "var offset = arguments[2], limit = arguments[3], fromEnd = arguments[4];\n" +
+      "var end = fromEnd ? Math.max(0, all.length - offset) : Math.min(all.length, offset + limit);\n" +
+      "var start = fromEnd ? Math.max(0, end - limit) : Math.min(all.length, offset);\n" +
+      "return all.slice(start, end);";
+
+  /**
+   * Returns number of elements matching the last step as an array {@code [count]}
+   * (to distinguish it from index of the step that found nothing)
+   */
+  private static final String JS_CODE_COUNT = FIND_ALL + "return [all.length];";
+
+  /**
+   * Executes script using {@link #FIND_FUNCTION}. Its errors about invalid selectors are thrown as
+   * {@link InvalidSelectorException}, the same way as WebDriver reports invalid selectors.
+   */
+  static <T> T execute(Driver driver, String jsCode, Object... arguments) {
+    try {
+      return driver.executeJavaScript(jsCode, arguments);
+    }
+    catch (JavascriptException e) {
+      String message = e.getMessage();
+      int start = message == null ? -1 : message.indexOf(INVALID_SELECTOR);
+      if (start < 0) {
+        throw e;
+      }
+      int end = message.indexOf('\n', start);
+      throw new InvalidSelectorException(end < 0 ? message.substring(start) : message.substring(start, end), e);
+    }
+  }
+
+  static boolean isSupported(Driver driver) {
+    return driver.config().searchViaJs() && driver.config().selectorMode() == CSS && driver.supportsJavascript();
+  }
+
+  /**
+   * @return searches of all parents (as long as they are also found by supported selectors) and the element itself,
+   * or null if the element's own selector cannot be searched by JavaScript
+   */
+  static SelectorChain of(Driver driver, SearchContext parent, By criteria, int index) {
+    WebElementSource parentSource = parent instanceof SelenideElement ?
+        SelenideElementProxy.webElementSource((SelenideElement) parent) : null;
+    SelectorChain parentChain = parentSource instanceof ElementFinder ?
+        ((ElementFinder) parentSource).selectorChain() : null;
+
+    return parentChain == null ?
+        start(driver, parent, criteria, index) :
+        parentChain.then(criteria, index);
+  }
+
+  /**
+   * @return chain of one step searched inside {@code root}, or null if the selector is not supported
+   */
+  private static SelectorChain start(Driver driver, SearchContext root, By criteria, int index) {
+    Step step = Step.of(criteria, index);
+    return step == null ? null : new SelectorChain(driver, root, singletonList(step));
+  }
+
+  private final Driver driver;
+  private final SearchContext root;
+  private final List<Step> steps;
+
+  private SelectorChain(Driver driver, SearchContext root, List<Step> steps) {
+    this.driver = driver;
+    this.root = root;
+    this.steps = steps;
+  }
+
+  /**
+   * @return new chain with one more step, or null if the selector is not supported
+   */
+  SelectorChain then(By criteria, int index) {
+    Step step = Step.of(criteria, index);
+    if (step == null) return null;
+
+    List<Step> nextSteps = new ArrayList<>(steps);
+    nextSteps.add(step);
+    return new SelectorChain(driver, root, nextSteps);
+  }
+
+  int length() {
+    return steps.size();
+  }
+
+  WebElement findElement() throws NoSuchElementException {
+    Object result = execute(driver, JS_CODE, rootElement(), stepsArgument());
+    if (result instanceof WebElement) {
+      return (WebElement) result;
+    }
+    throw notFound(((Number) result).intValue());
+  }
+
+  /**
+   * @return given slice of all elements matching the last step
+   * @throws NoSuchElementException if some of previous steps found nothing
+   */
+  @SuppressWarnings("unchecked")
+  List<WebElement> findElements(Slice slice) throws NoSuchElementException {
+    Object result = execute(driver, JS_CODE_SLICE, rootElement(), stepsArgument(),
+        slice.offset(), slice.limit(), slice.isFromEnd());
+    if (result instanceof Number) {
+      throw notFound(((Number) result).intValue());
+    }
+    return (List<WebElement>) result;
+  }
+
+  /**
+   * @return number of all elements matching the last step
+   * @throws NoSuchElementException if some of previous steps found nothing
+   */
+  int count() throws NoSuchElementException {
+    Object result = execute(driver, JS_CODE_COUNT, rootElement(), stepsArgument());
+    if (result instanceof Number) {
+      throw notFound(((Number) result).intValue());
+    }
+    return ((Number) ((List<?>) result).get(0)).intValue();
+  }
+
+  /**
+   * Runs given script in the same call as the search.
+   * The script gets all elements matching the last step in variable {@code all}.
+   *
+   * @return result of the script (must not be a number)
+   * @throws NoSuchElementException if some of previous steps found nothing
+   */
+  @SuppressWarnings("unchecked")
+  <T> T findAllAndThen(String script) throws NoSuchElementException {
+    Object result = execute(driver, FIND_ALL + script, rootElement(), stepsArgument());
+    if (result instanceof Number) {
+      throw notFound(((Number) result).intValue());
+    }
+    return (T) result;
+  }
+
+  /**
+   * @return steps in the form expected by {@link #FIND_FUNCTION}
+   */
+  List<List<Object>> stepsArgument() {
+    List<List<Object>> arguments = new ArrayList<>(steps.size());
+    for (Step step : steps) {
+      arguments.add(asList(step.type, step.selector, step.index));
+    }
+    return arguments;
+  }
+
+  NoSuchElementException notFound(int missingStep) {
+    return new NoSuchElementException("Cannot locate an element " + steps.get(missingStep));
+  }
+
+  /**
+   * @return element to search inside, or null for the whole document
+   */
+  WebElement rootElement() {
+    if (root instanceof SelenideElement) {
+      return ((SelenideElement) root).toWebElement();
+    }
+    return root instanceof WebElement ? (WebElement) root : null;
+  }
+
+  @Override
+  public String toString() {
+    return steps.toString();
+  }
+
+  private static class Step {
+    private final String type;
+    private final String selector;
+    private final int index;
+
+    private Step(String type, String selector, int index) {
+      this.type = type;
+      this.selector = selector;
+      this.index = index;
+    }
+
+    /**
+     * @return step for {@code By.cssSelector} or {@code By.xpath} (but not their subclasses),
+     * or null for all other selectors
+     */
+    static Step of(By criteria, int index) {
+      if (criteria.getClass() == By.ByCssSelector.class) {
+        return of(CSS_STEP, criteria, "By.cssSelector: ", index);
+      }
+      if (criteria.getClass() == By.ByXPath.class) {
+        return of(XPATH_STEP, criteria, "By.xpath: ", index);
+      }
+      return null;
+    }
+
+    /**
+     * Selenium doesn't expose selectors of {@code By} objects, but describes them as {@code prefix + selector}
+     */
+    private static Step of(String type, By criteria, String prefix, int index) {
+      String description = criteria.toString();
+      return description.startsWith(prefix) ? new Step(type, description.substring(prefix.length()), index) : null;
+    }
+
+    @Override
+    public String toString() {
+      String description = CSS_STEP.equals(type) ? selector : "By.xpath: " + selector;
+      return index == 0 ? description : description + '[' + index + ']';
+    }
+  }
+}
@@ -9,37 +9,112 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * List of elements in a page object. Elements are found again by every call, so they never get stale.
+ * <p>
+ * Lists annotated with {@link org.openqa.selenium.support.CacheLookup} are snapshots instead: elements are found once
+ * and reused by all subsequent calls until {@link #refresh(List)} is called. Found elements are wrapped into
+ * {@link SelenideElement} only when they are accessed.
+ */
 public class SelenideElementListProxy implements InvocationHandler {
 
-  @SuppressWarnings("unchecked")
   public static List<SelenideElement> wrap(Driver driver, ElementLocator locator) {
-    InvocationHandler handler = new SelenideElementListProxy(driver, locator);
+    return wrap(driver, locator, false);
+  }
+
+  /**
+   * @param snapshot true if elements should be found once and reused until {@link #refresh(List)}
+   */
+  @SuppressWarnings("unchecked")
+  public static List<SelenideElement> wrap(Driver driver, ElementLocator locator, boolean snapshot) {
+    InvocationHandler handler = new SelenideElementListProxy(driver, locator, snapshot);
 
     return (List<SelenideElement>) Proxy.newProxyInstance(
         SelenideElementListProxy.class.getClassLoader(), new Class[]{List.class}, handler);
   }
 
+  /**
+   * Forget the elements found by given snapshot list, so that its next call finds them in browser again.
+   * Does nothing for other lists.
+   */
+  public static void refresh(List<SelenideElement> list) {
+    if (Proxy.isProxyClass(list.getClass())) {
+      InvocationHandler handler = Proxy.getInvocationHandler(list);
+      if (handler instanceof SelenideElementListProxy) {
+        ((SelenideElementListProxy) handler).foundElements = null;
+      }
+    }
+  }
+
   private final Driver driver;
   private final ElementLocator locator;
+  private final boolean snapshot;
+  private List<SelenideElement> foundElements;
 
-  private SelenideElementListProxy(Driver driver, ElementLocator locator) {
+  private SelenideElementListProxy(Driver driver, ElementLocator locator, boolean snapshot) {
     this.driver = driver;
     this.locator = locator;
+    this.snapshot = snapshot;
   }
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-    List<SelenideElement> elements = new ArrayList<>();
-    for (WebElement webElement : locator.findElements()) {
-      elements.add(WebElementWrapper.wrap(driver, webElement));
-    }
+    List<SelenideElement> elements = snapshot ? snapshot() : wrapAll(locator.findElements());
     try {
       return method.invoke(elements, args);
     } catch (InvocationTargetException e) {
       throw e.getCause();
     }
   }
+
+  private List<SelenideElement> wrapAll(List<WebElement> webElements) {
+    List<SelenideElement> elements = new ArrayList<>(webElements.size());
+    for (WebElement webElement : webElements) {
+      elements.add(WebElementWrapper.wrap(driver, webElement));
+    }
+    return elements;
+  }
+
+  private List<SelenideElement> snapshot() {
+    List<SelenideElement> elements = foundElements;
+    if (elements == null) {
+      elements = new LazilyWrappedElements(driver, locator.findElements());
+      foundElements = elements;
+    }
+    return elements;
+  }
+
+  /**
+   * Wraps found elements into {@link SelenideElement} only when they are accessed
+   */
+  private static class LazilyWrappedElements extends AbstractList<SelenideElement> {
+    private final Driver driver;
+    private final List<WebElement> elements;
+    private final SelenideElement[] wrappers;
+
+    private LazilyWrappedElements(Driver driver, List<WebElement> elements) {
+      this.driver = driver;
+      this.elements = elements;
+      this.wrappers = new SelenideElement[elements.size()];
+    }
+
+    @Override
+    public SelenideElement get(int index) {
+      SelenideElement wrapper = wrappers[index];
+      if (wrapper == null) {
+        wrapper = WebElementWrapper.wrap(driver, elements.get(index));
+        wrappers[index] = wrapper;
+      }
+      return wrapper;
+    }
+
+    @Override
+    public int size() {
+      return elements.size();
+    }
+  }
 }
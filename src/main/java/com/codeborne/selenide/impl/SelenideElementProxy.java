@@ -2,6 +2,7 @@ package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.PollingStrategy;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.Stopwatch;
 import com.codeborne.selenide.commands.Commands;
@@ -17,6 +18,7 @@ import java.io.FileNotFoundException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -90,30 +92,32 @@ class SelenideElementProxy implements InvocationHandler {
   protected Object dispatchAndRetry(long timeoutMs, long pollingIntervalMs,
                                     Object proxy, Method method, Object[] args) throws Throwable {
     Stopwatch stopwatch = new Stopwatch(timeoutMs);
+    PollingStrategy pollingStrategy = config().pollingStrategy();
+    DomMutationWaiter domMutationWaiter = new DomMutationWaiter(driver());
+    int attempt = 0;
 
-    Throwable lastError;
+    Throwable lastError = null;
     do {
-      try {
-        if (SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) {
-          return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+      long delay = pollingStrategy.delay(++attempt, pollingIntervalMs);
+      if (!canSkipCheck(method, domMutationWaiter, stopwatch, delay)) {
+        try {
+          if (SelenideElement.class.isAssignableFrom(method.getDeclaringClass())) {
+            return Commands.getInstance().execute(proxy, webElementSource, method.getName(), args);
+          }
+
+          return method.invoke(webElementSource.getWebElement(), args);
+        }
+        catch (InvocationTargetException e) {
+          lastError = e.getTargetException();
+        }
+        catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
+          lastError = e;
         }
 
-        return method.invoke(webElementSource.getWebElement(), args);
-      }
-      catch (InvocationTargetException e) {
-        lastError = e.getTargetException();
-      }
-      catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
-        lastError = e;
-      }
-
-      if (Cleanup.of.isInvalidSelectorError(lastError)) {
-        throw Cleanup.of.wrap(lastError);
+        webElementSource.invalidateCache();
+        throwIfNotRetryable(lastError);
       }
-      else if (!shouldRetryAfterError(lastError)) {
-        throw lastError;
-      }
-      stopwatch.sleep(pollingIntervalMs);
+      sleep(stopwatch, domMutationWaiter, delay);
     }
     while (!stopwatch.isTimeoutReached());
 
@@ -129,6 +133,52 @@ class SelenideElementProxy implements InvocationHandler {
     throw lastError;
   }
 
+  /**
+   * Only condition checks (should*, waitUntil, waitWhile) may be skipped while DOM is unchanged,
+   * other commands are always executed.
+   */
+  private boolean canSkipCheck(Method method, DomMutationWaiter domMutationWaiter, Stopwatch stopwatch, long delay) {
+    return methodsForSoftAssertion.contains(method.getName()) && domMutationWaiter.canSkipCheck(stopwatch.isTimeoutReachedAfter(delay));
+  }
+
+  private void throwIfNotRetryable(Throwable lastError) throws Throwable {
+    if (Cleanup.of.isInvalidSelectorError(lastError)) {
+      throw Cleanup.of.wrap(lastError);
+    }
+    else if (!shouldRetryAfterError(lastError)) {
+      throw lastError;
+    }
+  }
+
+  private void sleep(Stopwatch stopwatch, DomMutationWaiter domMutationWaiter, long delay) {
+    if (!domMutationWaiter.waitForMutation(delay)) {
+      stopwatch.sleep(delay);
+    }
+  }
+
+  /**
+   * Forget the element reference cached by given proxy (if it's a proxy created by Selenide)
+   */
+  static void invalidateCache(SelenideElement element) {
+    WebElementSource source = webElementSource(element);
+    if (source != null) {
+      source.invalidateCache();
+    }
+  }
+
+  /**
+   * @return source of given element if it's a proxy created by Selenide, or null otherwise
+   */
+  static WebElementSource webElementSource(SelenideElement element) {
+    if (Proxy.isProxyClass(element.getClass())) {
+      InvocationHandler handler = Proxy.getInvocationHandler(element);
+      if (handler instanceof SelenideElementProxy) {
+        return ((SelenideElementProxy) handler).webElementSource;
+      }
+    }
+    return null;
+  }
+
   static boolean shouldRetryAfterError(Throwable e) {
     if (e instanceof FileNotFoundException) return false;
     if (e instanceof IllegalArgumentException) return false;
@@ -7,21 +7,27 @@ import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.CacheLookup;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.FindBys;
 import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
 import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
 import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class SelenideFieldDecorator extends DefaultFieldDecorator {
+  private static final ConcurrentMap<Class<?>, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
   private final SelenidePageFactory pageFactory;
   private final Driver driver;
   private final SearchContext searchContext;
@@ -46,27 +52,41 @@ public class SelenideFieldDecorator extends DefaultFieldDecorator {
       return createElementsContainer(selector, field);
     }
     else if (isDecoratableList(field, ElementsContainer.class)) {
-      return createElementsContainerList(field);
+      return createElementsContainerList(selector, field);
     }
     else if (isDecoratableList(field, SelenideElement.class)) {
-      return SelenideElementListProxy.wrap(driver, factory.createLocator(field));
+      return createSelenideElementList(field);
     }
 
     return super.decorate(loader, field);
   }
 
-  private List<ElementsContainer> createElementsContainerList(Field field) {
-    try {
-      List<ElementsContainer> result = new ArrayList<>();
-      Class<?> listType = getListGenericType(field);
-      List<SelenideElement> selfList = SelenideElementListProxy.wrap(driver, factory.createLocator(field));
-      for (SelenideElement element : selfList) {
-        result.add(initElementsContainer(listType, element));
-      }
-      return result;
-    } catch (Exception e) {
-      throw new RuntimeException("Failed to create elements container list for field " + field.getName(), e);
+  /**
+   * Lists annotated with {@link CacheLookup} are snapshots refreshed by {@link SelenideElementListProxy#refresh(List)},
+   * so their locator must not cache found elements by itself
+   */
+  private List<SelenideElement> createSelenideElementList(Field field) {
+    if (field.getAnnotation(CacheLookup.class) == null) {
+      return SelenideElementListProxy.wrap(driver, factory.createLocator(field));
     }
+    ElementLocator locator = new DefaultElementLocator(searchContext, new Annotations(field) {
+      @Override
+      public boolean isLookupCached() {
+        return false;
+      }
+    });
+    return SelenideElementListProxy.wrap(driver, locator, true);
+  }
+
+  private List<ElementsContainer> createElementsContainerList(By selector, Field field) {
+    Class<?> listType = getListGenericType(field);
+    return new ElementsContainerList(new BySelectorCollection(driver, searchContext, selector), self -> {
+      try {
+        return initElementsContainer(listType, self);
+      } catch (Exception e) {
+        throw new RuntimeException("Failed to create elements container list for field " + field.getName(), e);
+      }
+    });
   }
 
   private ElementsContainer createElementsContainer(By selector, Field field) {
@@ -80,14 +100,22 @@ public class SelenideFieldDecorator extends DefaultFieldDecorator {
 
   private ElementsContainer initElementsContainer(Class<?> type, SelenideElement self)
       throws InstantiationException, IllegalAccessException, NoSuchMethodException, InvocationTargetException {
-    Constructor<?> constructor = type.getDeclaredConstructor();
-    constructor.setAccessible(true);
-    ElementsContainer result = (ElementsContainer) constructor.newInstance();
+    ElementsContainer result = (ElementsContainer) constructor(type).newInstance();
     pageFactory.initElements(new SelenideFieldDecorator(pageFactory, driver, self), result);
     result.setSelf(self);
     return result;
   }
 
+  private static Constructor<?> constructor(Class<?> type) throws NoSuchMethodException {
+    Constructor<?> constructor = constructors.get(type);
+    if (constructor == null) {
+      constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      constructors.putIfAbsent(type, constructor);
+    }
+    return constructor;
+  }
+
   private boolean isDecoratableList(Field field, Class<?> type) {
     if (!List.class.isAssignableFrom(field.getType())) {
       return false;
@@ -0,0 +1,90 @@
+package com.codeborne.selenide.impl;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Part of elements collection: at most {@code limit} elements after skipping {@code offset} elements
+ * from the beginning (or from the end) of the collection.
+ * <p>
+ * Allows collections to fetch only the needed elements instead of all of them,
+ * see {@link WebElementsCollection#getElements(Slice)}.
+ */
+public class Slice {
+  public static Slice first(int count) {
+    return new Slice(0, count, false);
+  }
+
+  public static Slice last(int count) {
+    return new Slice(0, count, true);
+  }
+
+  public static Slice at(int index) {
+    return new Slice(index, 1, false);
+  }
+
+  private final int offset;
+  private final int limit;
+  private final boolean fromEnd;
+
+  public Slice(int offset, int limit, boolean fromEnd) {
+    this.offset = offset;
+    this.limit = limit;
+    this.fromEnd = fromEnd;
+  }
+
+  public int offset() {
+    return offset;
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  public boolean isFromEnd() {
+    return fromEnd;
+  }
+
+  /**
+   * @return number of first elements needed to get this slice (for slices counted from the beginning)
+   */
+  public int requiredCount() {
+    return (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the same slice of a collection containing only first (or last, for slices counted from the end)
+   * {@code size} elements
+   */
+  public Slice within(int size) {
+    return new Slice(offset, Math.max(0, Math.min(limit, size - offset)), fromEnd);
+  }
+
+  /**
+   * @return this slice of given list
+   */
+  public <T> List<T> of(List<T> list) {
+    int size = list.size();
+    int end = fromEnd ? Math.max(0, size - offset) : Math.min(size, requiredCount());
+    int start = fromEnd ? Math.max(0, end - limit) : Math.min(size, offset);
+    return list.subList(start, end);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    Slice slice = (Slice) o;
+    return offset == slice.offset && limit == slice.limit && fromEnd == slice.fromEnd;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(offset, limit, fromEnd);
+  }
+
+  @Override
+  public String toString() {
+    return (fromEnd ? "last " : "first ") + limit + (offset == 0 ? "" : " after " + offset);
+  }
+}
@@ -16,8 +16,17 @@ public class TailOfCollection implements WebElementsCollection {
 
   @Override
   public List<WebElement> getElements() {
-    List<WebElement> source = originalCollection.getElements();
-    return source.subList(source.size() - Math.min(source.size(), size), source.size());
+    return originalCollection.getElements(Slice.last(size));
+  }
+
+  @Override
+  public List<WebElement> getElements(Slice slice) {
+    return slice.isFromEnd() ? originalCollection.getElements(slice.within(size)) : slice.of(getElements());
+  }
+
+  @Override
+  public int size() {
+    return Math.min(originalCollection.size(), size);
   }
 
   @Override
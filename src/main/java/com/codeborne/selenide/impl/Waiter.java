@@ -1,14 +1,20 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.PollingStrategy;
 import com.google.common.base.Predicate;
 
 import static java.lang.System.currentTimeMillis;
 
 public class Waiter {
   public <T> void wait(T subject, Predicate<T> condition, long timeout, long pollingInterval) {
+    wait(subject, condition, timeout, pollingInterval, PollingStrategy.fixed());
+  }
+
+  public <T> void wait(T subject, Predicate<T> condition, long timeout, long pollingInterval, PollingStrategy pollingStrategy) {
+    int attempt = 0;
     for (long start = currentTimeMillis();
          !isTimeoutExceeded(timeout, start) && !condition.apply(subject); ) {
-      sleep(pollingInterval);
+      sleep(pollingStrategy.delay(++attempt, pollingInterval));
     }
   }
 
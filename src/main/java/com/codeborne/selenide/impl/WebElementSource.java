@@ -7,21 +7,62 @@ import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.ElementShould;
 import com.codeborne.selenide.ex.ElementShouldNot;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static com.codeborne.selenide.Condition.not;
 import static com.codeborne.selenide.Condition.visible;
 import static java.util.Collections.singletonList;
 
 public abstract class WebElementSource {
+  private WebElement cachedElement;
+  private WebDriver cachedElementOwner;
+
   public abstract Driver driver();
   public abstract WebElement getWebElement();
 
   public abstract String getSearchCriteria();
 
+  /**
+   * Returns the element found by previous lookup (if {@link com.codeborne.selenide.Config#cacheElementReferences()}
+   * is enabled and the browser is still the same), otherwise finds it using given lookup function.
+   */
+  protected WebElement cached(Supplier<WebElement> lookup) {
+    if (!driver().config().cacheElementReferences()) {
+      return lookup.get();
+    }
+
+    WebDriver webDriver = driver().getWebDriver();
+    WebElement element = cachedElement;
+    if (element == null || cachedElementOwner != webDriver) {
+      element = lookup.get();
+      cachedElement = element;
+      cachedElementOwner = webDriver;
+    }
+    return element;
+  }
+
+  /**
+   * Forget the cached element reference, so that next {@link #getWebElement()} finds the element in browser again.
+   */
+  public void invalidateCache() {
+    cachedElement = null;
+    cachedElementOwner = null;
+  }
+
+  /**
+   * @return search of this element that can be embedded into other scripts (see {@link SelectorChain#FIND_FUNCTION}),
+   * or null if the element should be found by {@link #getWebElement()}
+   */
+  SelectorChain scriptedLookup() {
+    return null;
+  }
+
   public SelenideElement find(SelenideElement proxy, Object arg, int index) {
     return ElementFinder.wrap(driver(), proxy, getSelector(arg), index);
   }
@@ -40,6 +81,10 @@ public abstract class WebElementSource {
 
   public WebElement checkCondition(String prefix, String message, Condition condition, boolean invert) {
     Condition check = invert ? not(condition) : condition;
+    if (check.applyNull()) {
+      // condition can be met by a detached element, so it should not rely on a cached reference
+      invalidateCache();
+    }
 
     Throwable lastError = null;
     WebElement element = null;
@@ -52,7 +97,81 @@ public abstract class WebElementSource {
     catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
       lastError = e;
     }
+    return failure(prefix, message, condition, invert, element, lastError);
+  }
+
+  /**
+   * Checks all given conditions. If there are several of them and all support JavaScript,
+   * checks them all and gets the actual value of the failed one by a single JavaScript call.
+   * <p>
+   * A single condition is checked in Java: it takes about as many WebDriver calls as a script would,
+   * but doesn't send the helper functions of {@link JavaScriptConditions} on every poll.
+   */
+  public void checkConditions(String prefix, String message, List<Condition> conditions, boolean invert) {
+    List<Condition> checks = new ArrayList<>(conditions.size());
+    for (Condition condition : conditions) {
+      Condition check = invert ? not(condition) : condition;
+      if (check.applyNull()) {
+        checks = null;
+        break;
+      }
+      checks.add(check);
+    }
 
+    if (checks == null || checks.size() < 2 || !JavaScriptConditions.instance.canCheck(driver(), checks)) {
+      checkOneByOne(prefix, message, conditions, invert);
+      return;
+    }
+
+    WebElement element;
+    try {
+      element = getWebElement();
+    }
+    catch (WebDriverException | IndexOutOfBoundsException | AssertionError e) {
+      failure(prefix, message, conditions.get(0), invert, null, e);
+      return;
+    }
+
+    JavaScriptConditions.Mismatch mismatch;
+    try {
+      mismatch = JavaScriptConditions.instance.firstFailed(driver(), element, checks);
+    }
+    catch (WebDriverException scriptFailed) {
+      // don't know which condition has failed, so let Java find out
+      checkOneByOne(prefix, message, conditions, invert);
+      return;
+    }
+    if (mismatch != null) {
+      mismatch(prefix, message, conditions.get(mismatch.index), invert, element, mismatch.actualValue);
+    }
+  }
+
+  /**
+   * Reports the actual value seen by the script which has failed the check,
+   * unless the condition can get its actual value only in Java
+   */
+  private void mismatch(String prefix, String message, Condition condition, boolean invert,
+                        WebElement element, String actualValue) {
+    if (condition.actualValueJavaScript() == null) {
+      failure(prefix, message, condition, invert, element, null);
+    }
+    else if (invert) {
+      throw new ElementShouldNot(driver(), getSearchCriteria(), prefix, message, condition, element, actualValue, null);
+    }
+    else {
+      throw new ElementShould(driver(), getSearchCriteria(), prefix, message, condition, element, actualValue, null);
+    }
+  }
+
+  private void checkOneByOne(String prefix, String message, List<Condition> conditions, boolean invert) {
+    for (Condition condition : conditions) {
+      checkCondition(prefix, message, condition, invert);
+    }
+  }
+
+  private WebElement failure(String prefix, String message, Condition condition, boolean invert,
+                             WebElement element, Throwable lastError) {
+    Condition check = invert ? not(condition) : condition;
     if (Cleanup.of.isInvalidSelectorError(lastError)) {
       throw Cleanup.of.wrap(lastError);
     }
@@ -11,6 +11,21 @@ public interface WebElementsCollection {
    */
   List<WebElement> getElements();
 
+  /**
+   * get given part of elements of this collection.
+   * Implementations may fetch only the needed elements instead of all of them.
+   */
+  default List<WebElement> getElements(Slice slice) {
+    return slice.of(getElements());
+  }
+
+  /**
+   * Implementations may count elements without fetching them.
+   */
+  default int size() {
+    return getElements().size();
+  }
+
   String description();
 
   Driver driver();
@@ -395,4 +395,38 @@ class ConditionTest {
     Condition condition = attribute("name").because("it's awesome");
     assertThat(condition).hasToString("attribute name (because it's awesome)");
   }
+
+  @Test
+  void builtInConditionsCanBeCheckedByJavaScript() {
+    assertThat(visible.toJavaScript()).isEqualTo("selenide.visible(element)");
+    assertThat(hidden.toJavaScript()).isEqualTo("!selenide.visible(element)");
+    assertThat(exactText("Hello").toJavaScript()).isEqualTo("selenide.equals(selenide.text(element), 'Hello')");
+    assertThat(attribute("name").toJavaScript()).isEqualTo("selenide.attr(element, 'name') !== null");
+    assertThat(cssClass("active").toJavaScript())
+      .isEqualTo("(selenide.attr(element, 'class') || '').split(' ').indexOf('active') >= 0");
+  }
+
+  @Test
+  void javaScriptOfConditionEscapesExpectedValues() {
+    assertThat(text("it's C:\\temp").toJavaScript()).endsWith(", 'it\\'s C:\\\\temp')");
+    assertThat(exactText("line1\nline2").toJavaScript()).isEqualTo("selenide.equals(selenide.text(element), 'line1\\u000aline2')");
+  }
+
+  @Test
+  void javaScriptOfCompositeConditions() {
+    assertThat(not(visible).toJavaScript()).isEqualTo("!(selenide.visible(element))");
+    assertThat(be(enabled).because("form is filled").toJavaScript()).isEqualTo("selenide.isEnabled(element)");
+    assertThat(and("active item", visible, cssClass("active")).toJavaScript())
+      .isEqualTo("((selenide.visible(element)) && ((selenide.attr(element, 'class') || '').split(' ').indexOf('active') >= 0))");
+    assertThat(or("checked", checked, selected).toJavaScript())
+      .isEqualTo("((selenide.isSelected(element)) || (selenide.isSelected(element)))");
+  }
+
+  @Test
+  void conditionsWithoutJavaScriptAreCheckedInJavaOnly() {
+    assertThat(matchText("Hello.*").toJavaScript()).isNull();
+    assertThat(cssValue("color", "red").toJavaScript()).isNull();
+    assertThat(not(matchText("Hello.*")).toJavaScript()).isNull();
+    assertThat(and("visible with text", visible, matchText("Hello.*")).toJavaScript()).isNull();
+  }
 }
@@ -1,5 +1,6 @@
 package com.codeborne.selenide;
 
+import com.codeborne.selenide.ex.ListSizeMismatch;
 import com.codeborne.selenide.impl.SelenideElementIterator;
 import com.codeborne.selenide.impl.SelenideElementListIterator;
 import com.codeborne.selenide.impl.WebElementsCollection;
@@ -9,13 +10,20 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 import static com.codeborne.selenide.CollectionCondition.size;
 import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -26,7 +34,7 @@ import static org.mockito.Mockito.when;
 
 class ElementsCollectionTest implements WithAssertions {
   private DriverStub driver = new DriverStub();
-  private WebElementsCollection source = mock(WebElementsCollection.class);
+  private WebElementsCollection source = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
   private WebElement element1 = element("h1");
   private WebElement element2 = element("h2");
   private WebElement element3 = element("h3");
@@ -274,7 +282,7 @@ class ElementsCollectionTest implements WithAssertions {
 
   @Test
   void doesNotWait_ifConditionAlreadyMatches() {
-    WebElementsCollection source = mock(WebElementsCollection.class);
+    WebElementsCollection source = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
     when(source.driver()).thenReturn(driver);
     ElementsCollection collection = spy(new ElementsCollection(source));
     when(source.getElements()).thenReturn(asList(element1, element2));
@@ -285,7 +293,7 @@ class ElementsCollectionTest implements WithAssertions {
 
   @Test
   void doesNotWait_ifJavascriptExceptionHappened() {
-    WebElementsCollection source = mock(WebElementsCollection.class);
+    WebElementsCollection source = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
     when(source.driver()).thenReturn(driver);
     ElementsCollection collection = spy(new ElementsCollection(source));
     when(source.getElements()).thenThrow(new JavascriptException("ReferenceError: Sizzle is not defined"));
@@ -308,6 +316,64 @@ class ElementsCollectionTest implements WithAssertions {
     verify(collection, times(2)).sleep(anyLong());
   }
 
+  @Test
+  void doesNotRepeatCheck_whileDomIsUnchanged() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    SelenideConfig config = new SelenideConfig().waitForDomMutations(true).skipUnchangedDom(true);
+    when(source.driver()).thenReturn(new DriverStub(config, new Browser("chrome", false), webDriver, null));
+    when(webDriver.executeAsyncScript(anyString(), any(), any())).thenReturn(5L, 5L, 7L);
+    doReturn(1, 1, 2).when(source).size();
+    ElementsCollection collection = new ElementsCollection(source);
+
+    collection.shouldHave(size(2));
+    verify(source, times(3)).size();
+    verify(webDriver, times(3)).executeAsyncScript(anyString(), any(), any());
+  }
+
+  @Test
+  void sizeConditions_countElementsWithoutFetchingThem() {
+    ElementsCollection collection = new ElementsCollection(source);
+    when(source.size()).thenReturn(500);
+
+    collection.shouldHave(size(500));
+    verify(source, never()).getElements();
+  }
+
+  @Test
+  void sizeConditions_fetchElementsForErrorMessage_butReportSizeThatFailedTheCheck() {
+    ElementsCollection collection = new ElementsCollection(source);
+    when(source.size()).thenReturn(1);
+    when(source.getElements()).thenReturn(asList(element1, element2));
+
+    assertThatThrownBy(() -> collection.shouldHave(size(2), 1))
+      .isInstanceOf(ListSizeMismatch.class)
+      .hasMessageContaining("actual: 1")
+      .hasMessageContaining("<h1></h1>");
+    verify(source, times(1)).getElements();
+  }
+
+  @Test
+  void bulkOperationsFetchCollectionOnlyOnce() {
+    ElementsCollection collection = new ElementsCollection(source);
+    when(source.getElements()).thenReturn(asList(element1, element2, element3));
+
+    assertFetchedOnce(collection, c -> assertThat(c.stream().count()).isEqualTo(3));
+    assertFetchedOnce(collection, c -> assertThat(c.stream().map(SelenideElement::getTagName)).containsExactly("h1", "h2", "h3"));
+    assertFetchedOnce(collection, c -> assertThat(c.subList(1, 3)).hasSize(2));
+    assertFetchedOnce(collection, c -> assertThat(c.toArray(new SelenideElement[0])).hasSize(3));
+    assertFetchedOnce(collection, c -> assertThat(c.indexOf(element1)).isEqualTo(-1));
+    assertFetchedOnce(collection, c -> assertThat(c.contains(element1)).isFalse());
+    assertFetchedOnce(collection, c -> assertThat(c.containsAll(asList(element1, element2))).isFalse());
+    assertFetchedOnce(collection, c -> c.forEach(SelenideElement::getTagName));
+  }
+
+  private void assertFetchedOnce(ElementsCollection collection, Consumer<ElementsCollection> operation) {
+    clearInvocations(source);
+    operation.accept(collection);
+    verify(source, times(1)).getElements();
+    verify(source, never()).size();
+  }
+
   @Test
   void toStringFetchedCollectionFromWebdriverIfNotFetchedYet() {
     ElementsCollection collection = new ElementsCollection(source);
@@ -0,0 +1,51 @@
+package com.codeborne.selenide;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+class PollingStrategyTest implements WithAssertions {
+  @Test
+  void fixedStrategyAlwaysSleepsForPollingInterval() {
+    PollingStrategy strategy = PollingStrategy.fixed();
+
+    assertThat(strategy.delay(1, 200)).isEqualTo(200);
+    assertThat(strategy.delay(100, 200)).isEqualTo(200);
+  }
+
+  @Test
+  void immediateFirstRetry() {
+    PollingStrategy strategy = PollingStrategy.immediateFirstRetry();
+
+    assertThat(strategy.delay(1, 200)).isEqualTo(0);
+    assertThat(strategy.delay(2, 200)).isEqualTo(200);
+    assertThat(strategy.delay(3, 200)).isEqualTo(200);
+  }
+
+  @Test
+  void exponentialBackoffStartsWithQuarterOfPollingIntervalAndStopsAtMaxDelay() {
+    PollingStrategy strategy = PollingStrategy.exponentialBackoff(1000);
+
+    assertThat(strategy.delay(1, 200)).isEqualTo(50);
+    assertThat(strategy.delay(2, 200)).isEqualTo(100);
+    assertThat(strategy.delay(3, 200)).isEqualTo(200);
+    assertThat(strategy.delay(4, 200)).isEqualTo(400);
+    assertThat(strategy.delay(5, 200)).isEqualTo(800);
+    assertThat(strategy.delay(6, 200)).isEqualTo(1000);
+    assertThat(strategy.delay(Integer.MAX_VALUE, 200)).isEqualTo(1000);
+  }
+
+  @Test
+  void exponentialBackoffNeverSleepsZero() {
+    assertThat(PollingStrategy.exponentialBackoff(1000).delay(1, 2)).isEqualTo(1);
+  }
+
+  @Test
+  void jitteredStrategyDeviatesByUpToHalfOfDelay() {
+    PollingStrategy strategy = PollingStrategy.jittered(PollingStrategy.fixed());
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(strategy.delay(1, 200)).isBetween(100L, 300L);
+    }
+    assertThat(strategy.delay(1, 0)).isEqualTo(0);
+  }
+}
@@ -0,0 +1,46 @@
+package com.codeborne.selenide;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.mockito.Mockito.mock;
+
+class SelenideWaitTest implements WithAssertions {
+  private final List<String> delays = new CopyOnWriteArrayList<>();
+  private final PollingStrategy recordingStrategy = (attempt, pollingInterval) -> {
+    delays.add(attempt + ":" + pollingInterval);
+    return 0;
+  };
+
+  @Test
+  void usesPollingIntervalGivenByUser() {
+    SelenideWait wait = new SelenideWait(mock(WebDriver.class), 4000, 100, recordingStrategy);
+    wait.pollingEvery(Duration.ofMillis(50));
+
+    wait.until(succeedsOnAttempt(3));
+
+    assertThat(delays).containsExactly("1:50", "2:50");
+  }
+
+  @Test
+  void countsAttemptsSeparatelyForEveryWait() {
+    SelenideWait wait = new SelenideWait(mock(WebDriver.class), 4000, 100, recordingStrategy);
+
+    wait.until(succeedsOnAttempt(2));
+    wait.until(succeedsOnAttempt(3));
+
+    assertThat(delays).containsExactly("1:100", "1:100", "2:100");
+  }
+
+  private Function<WebDriver, Boolean> succeedsOnAttempt(int successfulAttempt) {
+    AtomicInteger attempts = new AtomicInteger();
+    return driver -> attempts.incrementAndGet() >= successfulAttempt;
+  }
+}
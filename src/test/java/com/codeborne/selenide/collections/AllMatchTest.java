@@ -0,0 +1,100 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.ex.ElementsMismatch;
+import com.codeborne.selenide.impl.WebElementsCollection;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AllMatchTest implements WithAssertions {
+  private final DriverStub driver = new DriverStub();
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+  private final WebElement element3 = mock(WebElement.class);
+  private final List<WebElement> elements = asList(element1, element2, element3);
+
+  @Test
+  void matchesIfAllElementsMatch() {
+    when(element1.isDisplayed()).thenReturn(true);
+    when(element2.isDisplayed()).thenReturn(true);
+    when(element3.isDisplayed()).thenReturn(true);
+
+    assertThat(new AllMatch(visible).apply(driver, elements)).isTrue();
+  }
+
+  @Test
+  void doesNotMatchIfSomeElementDoesNotMatch() {
+    when(element1.isDisplayed()).thenReturn(true);
+    when(element3.isDisplayed()).thenReturn(true);
+
+    assertThat(new AllMatch(visible).apply(driver, elements)).isFalse();
+  }
+
+  @Test
+  void doesNotMatchEmptyCollection() {
+    assertThat(new AllMatch(visible).apply(driver, emptyList())).isFalse();
+  }
+
+  @Test
+  void checksAllElementsBySingleScript_ifConditionsViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    DriverStub driver = new DriverStub(new SelenideConfig().conditionsViaJs(true), new Browser("chrome", false), webDriver, null);
+    when(webDriver.executeScript(anyString(), eq(elements))).thenReturn(asList(0L, 1L, 2L));
+
+    assertThat(new AllMatch(visible).apply(driver, elements)).isTrue();
+    verify(webDriver).executeScript(contains("if (selenide.visible(element)) matching.push(i);"), eq(elements));
+    verify(element1, never()).isDisplayed();
+  }
+
+  @Test
+  void failureListsIndexesOfFailedElements() {
+    when(element2.isDisplayed()).thenReturn(true);
+    WebElementsCollection collection = mock(WebElementsCollection.class);
+    when(collection.driver()).thenReturn(driver);
+    when(collection.description()).thenReturn(".row");
+
+    assertThatThrownBy(() -> new AllMatch(visible).because("table is loaded").fail(collection, elements, null, 4000))
+      .isInstanceOf(ElementsMismatch.class)
+      .hasMessageStartingWith("\nExpected: all match [visible]\nBecause: table is loaded\nFailed elements: [0, 2]\nCollection: .row");
+  }
+
+  @Test
+  void failsWithElementNotFound_ifCollectionIsEmpty() {
+    WebElementsCollection collection = mock(WebElementsCollection.class);
+    when(collection.driver()).thenReturn(driver);
+    when(collection.description()).thenReturn(".row");
+
+    assertThatThrownBy(() -> new AllMatch(visible).fail(collection, emptyList(), null, 4000))
+      .isInstanceOf(ElementNotFound.class)
+      .hasMessageStartingWith("Element not found {.row}\nExpected: visible");
+  }
+
+  @Test
+  void canBeCheckedAsPlainPredicate() {
+    when(element1.isDisplayed()).thenReturn(true);
+    when(element2.isDisplayed()).thenReturn(true);
+    when(element3.isDisplayed()).thenReturn(true);
+    assertThat(new AllMatch(visible).apply(elements)).isTrue();
+
+    when(element2.isDisplayed()).thenReturn(false);
+    assertThat(new AllMatch(visible).apply(elements)).isFalse();
+  }
+}
@@ -0,0 +1,45 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.DriverStub;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AnyMatchTest implements WithAssertions {
+  private final DriverStub driver = new DriverStub();
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+  private final List<WebElement> elements = asList(element1, element2);
+
+  @Test
+  void matchesIfSomeElementMatches() {
+    when(element2.isDisplayed()).thenReturn(true);
+
+    assertThat(new AnyMatch(visible).apply(driver, elements)).isTrue();
+    assertThat(new AnyMatch(visible).failedIndexes(driver, elements)).isEmpty();
+  }
+
+  @Test
+  void doesNotMatchIfNoElementMatches() {
+    assertThat(new AnyMatch(visible).apply(driver, elements)).isFalse();
+    assertThat(new AnyMatch(visible).failedIndexes(driver, elements)).containsExactly(0, 1);
+  }
+
+  @Test
+  void doesNotMatchEmptyCollection() {
+    assertThat(new AnyMatch(visible).apply(driver, emptyList())).isFalse();
+  }
+
+  @Test
+  void testToString() {
+    assertThat(new AnyMatch(visible)).hasToString("any match [visible]");
+  }
+}
@@ -2,17 +2,25 @@ package com.codeborne.selenide.collections;
 
 import java.util.List;
 
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.ex.ElementNotFound;
 import com.codeborne.selenide.ex.TextsMismatch;
 import com.codeborne.selenide.impl.WebElementsCollection;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ExactTextsTest implements WithAssertions {
@@ -55,6 +63,44 @@ class ExactTextsTest implements WithAssertions {
     testApplyMethodOnDifferentConditions(false);
   }
 
+  @Test
+  void applyWithDriver_fetchesAllTextsAtOnce_ifConditionsViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    DriverStub driver = new DriverStub(new SelenideConfig().conditionsViaJs(true), new Browser("chrome", false), webDriver, null);
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+    List<WebElement> elements = asList(element1, element2);
+    when(webDriver.executeScript(anyString(), eq(elements))).thenReturn(asList("One", "Two  "));
+
+    assertThat(new ExactTexts("One", "Two").apply(driver, elements)).isTrue();
+    assertThat(new ExactTexts("One", "Three").apply(driver, elements)).isFalse();
+    verify(element1, never()).getText();
+  }
+
+  @Test
+  void applyWithDriver_stopsAtFirstMismatch_ifConditionsViaJsDisabled() {
+    DriverStub driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), mock(RemoteWebDriver.class), null);
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+    when(element1.getText()).thenReturn("Zero");
+
+    assertThat(new ExactTexts("One", "Two").apply(driver, asList(element1, element2))).isFalse();
+    verify(element2, never()).getText();
+  }
+
+  @Test
+  void applyWithDriver_usesOverriddenApply_ifConditionsViaJsDisabled() {
+    DriverStub driver = new DriverStub(new SelenideConfig(), new Browser("chrome", false), mock(RemoteWebDriver.class), null);
+    ExactTexts condition = new ExactTexts("One") {
+      @Override
+      public boolean apply(List<WebElement> elements) {
+        return true;
+      }
+    };
+
+    assertThat(condition.apply(driver, asList(mock(WebElement.class), mock(WebElement.class)))).isTrue();
+  }
+
   @Test
   void testFailWithNullElementsList() {
     failOnEmptyOrNullElementsList(null);
@@ -30,6 +30,14 @@ class ListSizeTest implements WithAssertions {
       .isTrue();
   }
 
+  @Test
+  void testApplySize() {
+    assertThat(new ListSize(500).applySize(500))
+      .isTrue();
+    assertThat(new ListSize(500).applySize(499))
+      .isFalse();
+  }
+
   @Test
   void testFailMethod() {
     WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
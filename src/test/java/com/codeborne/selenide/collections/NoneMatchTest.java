@@ -0,0 +1,44 @@
+package com.codeborne.selenide.collections;
+
+import com.codeborne.selenide.DriverStub;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoneMatchTest implements WithAssertions {
+  private final DriverStub driver = new DriverStub();
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+  private final List<WebElement> elements = asList(element1, element2);
+
+  @Test
+  void matchesIfNoElementMatches() {
+    assertThat(new NoneMatch(visible).apply(driver, elements)).isTrue();
+  }
+
+  @Test
+  void doesNotMatchIfSomeElementMatches() {
+    when(element2.isDisplayed()).thenReturn(true);
+
+    assertThat(new NoneMatch(visible).apply(driver, elements)).isFalse();
+    assertThat(new NoneMatch(visible).failedIndexes(driver, elements)).containsExactly(1);
+  }
+
+  @Test
+  void matchesEmptyCollection() {
+    assertThat(new NoneMatch(visible).apply(driver, emptyList())).isTrue();
+  }
+
+  @Test
+  void testToString() {
+    assertThat(new NoneMatch(visible)).hasToString("none match [visible]");
+  }
+}
@@ -0,0 +1,61 @@
+package com.codeborne.selenide.commands;
+
+import com.codeborne.selenide.Command;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.impl.WebElementSource;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommandsTest implements WithAssertions {
+  private final SelenideElement proxy = mock(SelenideElement.class);
+  private final WebElementSource locator = mock(WebElementSource.class);
+
+  @Test
+  void executesDefaultCommand() throws IOException {
+    when(locator.getSearchCriteria()).thenReturn("#app");
+    Commands commands = new Commands();
+    commands.resetDefaults();
+
+    String searchCriteria = commands.execute(proxy, locator, "getSearchCriteria", Command.NO_ARGS);
+
+    assertThat(searchCriteria).isEqualTo("#app");
+  }
+
+  @Test
+  void canOverrideCommand() throws IOException {
+    Commands commands = new Commands();
+    commands.resetDefaults();
+
+    commands.add("getSearchCriteria", (proxy, locator, args) -> "overridden");
+
+    assertThat((String) commands.execute(proxy, locator, "getSearchCriteria", Command.NO_ARGS)).isEqualTo("overridden");
+  }
+
+  @Test
+  void resetDefaultsRemovesOverriddenCommands() throws IOException {
+    when(locator.getSearchCriteria()).thenReturn("#app");
+    Commands commands = new Commands();
+    commands.add("getSearchCriteria", (proxy, locator, args) -> "overridden");
+    commands.add("tripleClick", (proxy, locator, args) -> null);
+
+    commands.resetDefaults();
+
+    assertThat((String) commands.execute(proxy, locator, "getSearchCriteria", Command.NO_ARGS)).isEqualTo("#app");
+    assertThatThrownBy(() -> commands.execute(proxy, locator, "tripleClick", Command.NO_ARGS))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown Selenide method: tripleClick");
+  }
+
+  @Test
+  void sharedInstanceHasDefaultCommands() throws IOException {
+    when(locator.getSearchCriteria()).thenReturn("#app");
+
+    assertThat((String) Commands.getInstance().execute(proxy, locator, "getSearchCriteria", Command.NO_ARGS))
+      .isEqualTo("#app");
+  }
+}
@@ -1,17 +1,33 @@
 package com.codeborne.selenide.commands;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.InvalidStateException;
 import com.codeborne.selenide.impl.WebElementSource;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 class SetValueCommandTest implements WithAssertions {
@@ -83,6 +99,95 @@ class SetValueCommandTest implements WithAssertions {
       .isEqualTo(proxy);
   }
 
+  @Test
+  void fastSetValue_checksElementTypeAndSetsValueBySingleScript() {
+    RemoteWebDriver webDriver = fastSetValue();
+    when(webDriver.executeScript(anyString(), eq(mockedFoundElement), eq("text"), eq(true))).thenReturn(null);
+
+    assertThat(setValueCommand.execute(proxy, locator, new Object[]{"text"})).isEqualTo(proxy);
+
+    verify(webDriver).executeScript(anyString(), eq(mockedFoundElement), eq("text"), eq(true));
+    verify(mockedFoundElement, never()).getTagName();
+    verify(mockedFoundElement, never()).getAttribute(any());
+    verifyZeroInteractions(mockedSelectByOption, mockedSelectRadio);
+  }
+
+  @Test
+  void fastSetValue_selectsOption_ifElementIsSelect() {
+    RemoteWebDriver webDriver = fastSetValue();
+    when(webDriver.executeScript(anyString(), eq(mockedFoundElement), eq("value"), eq(true))).thenReturn("select");
+    Object[] args = {"value"};
+
+    setValueCommand.execute(proxy, locator, args);
+
+    verify(mockedSelectByOption).execute(proxy, locator, args);
+    verifyZeroInteractions(mockedSelectRadio);
+  }
+
+  @Test
+  void fastSetValue_selectsRadio_ifElementIsRadioButton() {
+    RemoteWebDriver webDriver = fastSetValue();
+    when(webDriver.executeScript(anyString(), eq(mockedFoundElement), eq("value"), eq(true))).thenReturn("radio");
+    Object[] args = {"value"};
+
+    setValueCommand.execute(proxy, locator, args);
+
+    verify(mockedSelectRadio).execute(proxy, locator, args);
+    verifyZeroInteractions(mockedSelectByOption);
+  }
+
+  @Test
+  void fastSetValue_failsIfValueCannotBeChanged() {
+    RemoteWebDriver webDriver = fastSetValue();
+    when(webDriver.executeScript(anyString(), eq(mockedFoundElement), eq("text"), eq(true)))
+      .thenReturn("Cannot change value of readonly element");
+
+    assertThatThrownBy(() -> setValueCommand.execute(proxy, locator, new Object[]{"text"}))
+      .isInstanceOf(InvalidStateException.class)
+      .hasMessageStartingWith("Cannot change value of readonly element");
+  }
+
+  @Test
+  void fastSetValue_logsWarning_ifEventsCannotBeFired() {
+    RemoteWebDriver webDriver = fastSetValue();
+    when(webDriver.executeScript(anyString(), eq(mockedFoundElement), eq("text"), eq(true)))
+      .thenReturn("Failed to trigger events [keydown, keypress, input, keyup, change]: onchange is broken");
+    List<LogRecord> warnings = new ArrayList<>();
+    Handler handler = new Handler() {
+      @Override
+      public void publish(LogRecord record) {
+        warnings.add(record);
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    Logger log = Logger.getLogger(SetValue.class.getName());
+    log.addHandler(handler);
+    try {
+      assertThat(setValueCommand.execute(proxy, locator, new Object[]{"text"})).isEqualTo(proxy);
+    }
+    finally {
+      log.removeHandler(handler);
+    }
+
+    assertThat(warnings).hasSize(1);
+    assertThat(warnings.get(0).getLevel()).isEqualTo(Level.WARNING);
+    assertThat(warnings.get(0).getMessage()).endsWith(": onchange is broken");
+  }
+
+  private RemoteWebDriver fastSetValue() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    SelenideConfig config = new SelenideConfig().fastSetValue(true).versatileSetValue(true);
+    when(locator.driver()).thenReturn(new DriverStub(config, new Browser("chrome", false), webDriver, null));
+    return webDriver;
+  }
+
   @AfterEach
   void tearDown() {
     System.setProperty("selenide.versatileSetValue", "false");
@@ -8,6 +8,10 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 class ElementShouldTest implements WithAssertions {
   @Test
@@ -26,4 +30,16 @@ class ElementShouldTest implements WithAssertions {
     assertThat(elementShould)
       .hasToString(expectedString);
   }
+
+  @Test
+  void describesElementOnlyWhenMessageIsNeeded() {
+    WebElement webElement = mock(WebElement.class);
+    when(webElement.getTagName()).thenReturn("h1");
+    ElementShould elementShould = new ElementShould(new DriverStub(), "h1", "be ", Condition.visible, webElement, null);
+    verifyZeroInteractions(webElement);
+
+    assertThat(elementShould).hasMessageStartingWith("Element should be visible {h1}\nElement: '<h1");
+    assertThat(elementShould.getMessage()).startsWith("Element should be visible {h1}");
+    verify(webElement, times(1)).getTagName();
+  }
 }
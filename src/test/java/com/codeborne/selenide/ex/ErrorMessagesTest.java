@@ -9,7 +9,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.chrome.ChromeDriver;
 
-import java.io.File;
 import java.util.Locale;
 
 import static java.io.File.separatorChar;
@@ -19,7 +18,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.openqa.selenium.OutputType.FILE;
+import static org.openqa.selenium.OutputType.BYTES;
 
 class ErrorMessagesTest implements WithAssertions {
   private final ChromeDriver webDriver = mock(ChromeDriver.class);
@@ -55,7 +54,7 @@ class ErrorMessagesTest implements WithAssertions {
   @Test
   void convertsScreenshotFileNameToCIUrl() {
     config.reportsUrl("http://ci.mycompany.com/job/666/artifact/");
-    doReturn(new File("src/test/resources/screenshot.png")).when(webDriver).getScreenshotAs(FILE);
+    doReturn(new byte[]{1, 2, 3}).when(webDriver).getScreenshotAs(BYTES);
 
     String screenshot = ErrorMessages.screenshot(driver);
     assertThat(screenshot)
@@ -71,7 +70,7 @@ class ErrorMessagesTest implements WithAssertions {
       currentDir = '/' + currentDir.replace('\\', '/');
     }
 
-    doReturn(new File("src/test/resources/screenshot.png")).when(webDriver).getScreenshotAs(FILE);
+    doReturn(new byte[]{1, 2, 3}).when(webDriver).getScreenshotAs(BYTES);
 
     String screenshot = ErrorMessages.screenshot(driver);
     assertThat(screenshot)
@@ -93,7 +92,7 @@ class ErrorMessagesTest implements WithAssertions {
     config.savePageSource(true);
     config.reportsUrl("http://ci.mycompany.com/job/666/artifact/");
     doReturn("<html>blah</html>").when(webDriver).getPageSource();
-    doReturn(new File("src/test/resources/screenshot.png")).when(webDriver).getScreenshotAs(FILE);
+    doReturn(new byte[]{1, 2, 3}).when(webDriver).getScreenshotAs(BYTES);
 
     String screenshot = ErrorMessages.screenshot(driver);
     assertThat(screenshot)
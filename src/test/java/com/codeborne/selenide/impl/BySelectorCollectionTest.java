@@ -1,17 +1,28 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class BySelectorCollectionTest implements WithAssertions {
@@ -44,6 +55,32 @@ class BySelectorCollectionTest implements WithAssertions {
       .isEqualTo("By.name: selenide");
   }
 
+  @Test
+  void fetchesOnlyRequestedSliceOfElements_ifSearchViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), isNull(), any(), eq(0), eq(1), eq(true))).thenReturn(singletonList(element));
+    BySelectorCollection collection = new BySelectorCollection(driver, By.cssSelector(".feed .item"));
+
+    assertThat(collection.getElements(Slice.last(1))).containsExactly(element);
+    verify(webDriver).executeScript(anyString(), isNull(), eq(singletonList(asList("css", ".feed .item", 0))),
+      eq(0), eq(1), eq(true));
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void countsElementsWithoutFetchingThem_ifSearchViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+    when(webDriver.executeScript(anyString(), isNull(), any())).thenReturn(singletonList(500L));
+    BySelectorCollection collection = new BySelectorCollection(driver, By.cssSelector("table tr"));
+
+    assertThat(collection.size()).isEqualTo(500);
+    verify(webDriver).executeScript(anyString(), isNull(), eq(singletonList(asList("css", "table tr", 0))));
+    verify(webDriver, never()).findElements(any());
+  }
+
   private class NotWebElement implements SearchContext {
     @Override
     public List<WebElement> findElements(By by) {
@@ -0,0 +1,91 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideElement;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChunkedElementsIteratorTest implements WithAssertions {
+  private final BySelectorCollection collection = mock(BySelectorCollection.class);
+  private final List<WebElement> elements = asList(element("a"), element("b"), element("c"), element("d"), element("e"));
+
+  @BeforeEach
+  void setUp() {
+    when(collection.driver()).thenReturn(new DriverStub());
+    when(collection.allElementsChain()).thenReturn(mock(SelectorChain.class));
+    when(collection.getElements(any(Slice.class))).thenAnswer(invocation -> invocation.<Slice>getArgument(0).of(elements));
+  }
+
+  @Test
+  void firstElementIsAvailableAfterFetchingFirstChunk() {
+    Iterator<SelenideElement> iterator = new ChunkedElementsIterator(collection, 2);
+
+    assertThat(iterator.next().getTagName()).isEqualTo("a");
+    verify(collection).getElements(new Slice(0, 2, false));
+    verify(collection, times(1)).getElements(any(Slice.class));
+  }
+
+  @Test
+  void fetchesElementsByChunks() {
+    List<String> tags = ChunkedElementsIterator.stream(collection, 2).map(SelenideElement::getTagName).collect(toList());
+
+    assertThat(tags).containsExactly("a", "b", "c", "d", "e");
+    verify(collection).getElements(new Slice(0, 2, false));
+    verify(collection).getElements(new Slice(2, 2, false));
+    verify(collection).getElements(new Slice(4, 2, false));
+    verify(collection, times(3)).getElements(any(Slice.class));
+  }
+
+  @Test
+  void fetchesOneMoreChunkIfLastChunkIsFull() {
+    Iterator<SelenideElement> iterator = new ChunkedElementsIterator(collection, 5);
+    for (int i = 0; i < 5; i++) iterator.next();
+
+    assertThat(iterator.hasNext()).isFalse();
+    verify(collection).getElements(new Slice(5, 5, false));
+    assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void fetchesAllElementsOnce_ifCollectionCannotFetchPartOfThemInBrowser() {
+    WebElementsCollection collection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
+    when(collection.driver()).thenReturn(new DriverStub());
+    when(collection.getElements()).thenReturn(elements);
+
+    List<String> tags = ChunkedElementsIterator.stream(collection, 2).map(SelenideElement::getTagName).collect(toList());
+
+    assertThat(tags).containsExactly("a", "b", "c", "d", "e");
+    verify(collection, times(1)).getElements();
+    verify(collection, never()).getElements(any(Slice.class));
+  }
+
+  @Test
+  void chunkSizeShouldBePositive() {
+    assertThatThrownBy(() -> new ChunkedElementsIterator(collection, 0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Chunk size should be positive, but was: 0");
+    verify(collection, never()).getElements();
+  }
+
+  private WebElement element(String tag) {
+    WebElement element = mock(WebElement.class);
+    when(element.getTagName()).thenReturn(tag);
+    return element;
+  }
+}
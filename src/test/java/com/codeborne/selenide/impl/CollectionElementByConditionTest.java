@@ -1,19 +1,30 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CollectionElementByConditionTest implements WithAssertions {
@@ -40,6 +51,7 @@ class CollectionElementByConditionTest implements WithAssertions {
 
     List<WebElement> listOfMockedElements = asList(mockedWebElement1, mockedWebElement2);
     when(mockedWebElementCollection.getElements()).thenReturn(listOfMockedElements);
+    when(mockedWebElementCollection.driver()).thenReturn(driver);
     when(mockedWebElement2.isDisplayed()).thenReturn(true);
     CollectionElementByCondition collectionElement = new CollectionElementByCondition(mockedWebElementCollection, Condition.visible);
 
@@ -47,6 +59,35 @@ class CollectionElementByConditionTest implements WithAssertions {
       .isEqualTo(mockedWebElement2);
   }
 
+  @Test
+  void searchesElementBySingleScript_ifSearchAndConditionsViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement mockedWebElement2 = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(mockedWebElement2);
+    CollectionElementByCondition collectionElement = new CollectionElementByCondition(rows(webDriver), Condition.visible);
+
+    assertThat(collectionElement.getWebElement())
+      .isEqualTo(mockedWebElement2);
+    verify(webDriver).executeScript(contains("if (selenide.visible(element)) return element;"), isNull(),
+      eq(singletonList(asList("css", ".row", 0))));
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void failsIfNoElementMatchesInBrowser() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    CollectionElementByCondition collectionElement = new CollectionElementByCondition(rows(webDriver), Condition.visible);
+
+    assertThatThrownBy(collectionElement::getWebElement)
+      .isInstanceOf(ElementNotFound.class)
+      .hasMessageStartingWith("Element not found {.row.findBy(visible)}");
+  }
+
+  private WebElementsCollection rows(RemoteWebDriver webDriver) {
+    SelenideConfig config = new SelenideConfig().searchViaJs(true).conditionsViaJs(true);
+    return new BySelectorCollection(new DriverStub(config, new Browser("chrome", false), webDriver, null), By.cssSelector(".row"));
+  }
+
   @Test
   void testGetSearchCriteria() {
     String collectionDescription = "Collection description";
@@ -1,19 +1,30 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementNotFound;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.util.List;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CollectionElementTest implements WithAssertions {
@@ -34,10 +45,11 @@ class CollectionElementTest implements WithAssertions {
 
   @Test
   void testGetWebElement() {
-    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
+    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
     WebElement mockedWebElement1 = mock(WebElement.class);
     WebElement mockedWebElement2 = mock(WebElement.class);
     List<WebElement> listOfMockedElements = asList(mockedWebElement1, mockedWebElement2);
+    when(mockedWebElementCollection.driver()).thenReturn(driver);
     when(mockedWebElementCollection.getElements()).thenReturn(listOfMockedElements);
     CollectionElement collectionElement = new CollectionElement(mockedWebElementCollection, 1);
 
@@ -45,11 +57,24 @@ class CollectionElementTest implements WithAssertions {
       .isEqualTo(mockedWebElement2);
   }
 
+  @Test
+  void searchesOnlyElementWithGivenIndex_ifSearchViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement row = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(row);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+    CollectionElement collectionElement = new CollectionElement(new BySelectorCollection(driver, By.cssSelector("tr")), 1500);
+
+    assertThat(collectionElement.getWebElement()).isSameAs(row);
+    verify(webDriver).executeScript(anyString(), isNull(), eq(singletonList(asList("css", "tr", 1500))));
+    verify(webDriver, never()).findElements(any());
+  }
+
   @Test
   void testGetSearchCriteria() {
     String collectionDescription = "Collection description";
     int index = 1;
-    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
+    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
     when(mockedWebElementCollection.description()).thenReturn(collectionDescription);
     CollectionElement collectionElement = new CollectionElement(mockedWebElementCollection, 1);
     assertThat(collectionElement.getSearchCriteria())
@@ -58,7 +83,7 @@ class CollectionElementTest implements WithAssertions {
 
   @Test
   void testToString() {
-    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
+    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
     String collectionDescription = "Collection description";
     when(mockedWebElementCollection.description()).thenReturn(collectionDescription);
     int index = 1;
@@ -69,7 +94,7 @@ class CollectionElementTest implements WithAssertions {
 
   @Test
   void testCreateElementNotFoundErrorWithEmptyCollection() {
-    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
+    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
     when(mockedWebElementCollection.driver()).thenReturn(driver);
     when(mockedWebElementCollection.description()).thenReturn("Collection description");
     CollectionElement collectionElement = new CollectionElement(mockedWebElementCollection, 1);
@@ -87,7 +112,7 @@ class CollectionElementTest implements WithAssertions {
 
   @Test
   void testCreateElementNotFoundErrorWithNonEmptyCollection() {
-    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
+    WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
     when(mockedWebElementCollection.driver()).thenReturn(driver);
     when(mockedWebElementCollection.description()).thenReturn("Collection description");
     when(mockedWebElementCollection.getElements()).thenReturn(singletonList(mock(WebElement.class)));
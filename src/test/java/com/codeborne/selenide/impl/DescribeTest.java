@@ -1,17 +1,30 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
 import com.codeborne.selenide.ex.ElementShould;
+import com.google.common.collect.ImmutableMap;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 class DescribeTest implements WithAssertions {
@@ -27,6 +40,43 @@ class DescribeTest implements WithAssertions {
       .isEqualTo("By.name: firstName");
   }
 
+  @Test
+  void describesAllElementsBySingleScript_ifConditionsViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement input = mock(WebElement.class);
+    WebElement option = mock(WebElement.class);
+    Map<String, String> inputAttributes = new HashMap<>();
+    inputAttributes.put("name", "login");
+    inputAttributes.put("id", "login");
+    inputAttributes.put("value", "john");
+    inputAttributes.put("type", "text");
+    when(webDriver.executeScript(anyString(), eq(asList(input, option)))).thenReturn(asList(
+      asList("input", inputAttributes, false, true, ""),
+      asList("option", ImmutableMap.of("value", "1"), true, false, "")
+    ));
+
+    assertThat(Describe.describe(driver(webDriver), asList(input, option))).containsExactly(
+      "<input id=\"login\" name=\"login\" type=\"text\" value=\"john\"></input>",
+      "<option value=\"1\" selected:true displayed:false></option>"
+    );
+    verifyZeroInteractions(input, option);
+  }
+
+  @Test
+  void describesElementsOneByOne_ifSomeOfThemDisappeared() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), eq(singletonList(element)))).thenThrow(new StaleElementReferenceException("gone"));
+    when(element.getTagName()).thenThrow(new StaleElementReferenceException("disappeared"));
+
+    assertThat(Describe.describe(driver(webDriver), singletonList(element)))
+      .containsExactly("StaleElementReferenceException: disappeared");
+  }
+
+  private Driver driver(RemoteWebDriver webDriver) {
+    return new DriverStub(new SelenideConfig().conditionsViaJs(true), new Browser("chrome", false), webDriver, null);
+  }
+
   @Test
   void shortlyForSelenideElementShouldDelegateToOriginalWebElement() {
     Driver driver = mock(Driver.class);
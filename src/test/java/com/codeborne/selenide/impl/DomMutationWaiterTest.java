@@ -0,0 +1,128 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class DomMutationWaiterTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+
+  @Test
+  void waitsInBrowserAndRemembersLastSeenEpoch() {
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(-1L))).thenReturn(5L);
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(5L))).thenReturn(7L);
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(true));
+
+    assertThat(waiter.waitForMutation(200)).isTrue();
+    assertThat(waiter.waitForMutation(200)).isTrue();
+
+    verify(webDriver).executeAsyncScript(anyString(), eq(200L), eq(-1L));
+    verify(webDriver).executeAsyncScript(anyString(), eq(200L), eq(5L));
+  }
+
+  @Test
+  void reportsUnchangedDom_ifEpochIsTheSameAsAfterPreviousWait() {
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(-1L))).thenReturn(5L);
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(5L))).thenReturn(5L, 5L, 6L);
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(new SelenideConfig().waitForDomMutations(true).skipUnchangedDom(true)));
+
+    waiter.waitForMutation(200);
+    assertThat(waiter.isDomUnchanged()).isFalse();
+    waiter.waitForMutation(200);
+    assertThat(waiter.isDomUnchanged()).isTrue();
+    waiter.waitForMutation(200);
+    assertThat(waiter.isDomUnchanged()).isTrue();
+    waiter.waitForMutation(200);
+    assertThat(waiter.isDomUnchanged()).isFalse();
+  }
+
+  @Test
+  void forcesCheck_everyNthPoll_andBeforeTimeout() {
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(-1L))).thenReturn(5L);
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(5L))).thenReturn(5L);
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(new SelenideConfig().waitForDomMutations(true).skipUnchangedDom(true)));
+    waiter.waitForMutation(200);
+
+    for (int i = 1; i < DomMutationWaiter.FORCED_CHECK_EVERY; i++) {
+      waiter.waitForMutation(200);
+      assertThat(waiter.canSkipCheck(false)).isTrue();
+    }
+    waiter.waitForMutation(200);
+    assertThat(waiter.canSkipCheck(false)).isFalse();
+
+    waiter.waitForMutation(200);
+    assertThat(waiter.canSkipCheck(false)).isTrue();
+    waiter.waitForMutation(200);
+    assertThat(waiter.canSkipCheck(true)).isFalse();
+  }
+
+  @Test
+  void alwaysReportsChangedDom_ifSkippingIsDisabled() {
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(-1L))).thenReturn(5L);
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(5L))).thenReturn(5L);
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(true));
+
+    waiter.waitForMutation(200);
+    waiter.waitForMutation(200);
+    assertThat(waiter.isDomUnchanged()).isFalse();
+  }
+
+  @Test
+  void reportsChangedDom_ifCouldNotWaitInBrowser() {
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(-1L))).thenReturn(5L);
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(5L))).thenReturn(5L);
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(new SelenideConfig().waitForDomMutations(true).skipUnchangedDom(true)));
+
+    waiter.waitForMutation(200);
+    waiter.waitForMutation(200);
+    waiter.waitForMutation(0);
+    assertThat(waiter.isDomUnchanged()).isFalse();
+  }
+
+  @Test
+  void doesNotWaitInBrowser_ifDisabled() {
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(false));
+
+    assertThat(waiter.waitForMutation(200)).isFalse();
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void doesNotWaitInBrowser_forZeroDelay() {
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(true));
+
+    assertThat(waiter.waitForMutation(0)).isFalse();
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void fallsBackToSleeping_ifBrowserCannotRunAsyncScript() {
+    when(webDriver.executeAsyncScript(anyString(), eq(200L), eq(-1L))).thenThrow(new ScriptTimeoutException("timeout: 0 ms"));
+    DomMutationWaiter waiter = new DomMutationWaiter(driver(true));
+
+    assertThat(waiter.waitForMutation(200)).isFalse();
+    assertThat(waiter.waitForMutation(200)).isFalse();
+    verify(webDriver, times(1)).executeAsyncScript(anyString(), eq(200L), eq(-1L));
+  }
+
+  private Driver driver(boolean waitForDomMutations) {
+    return driver(new SelenideConfig().waitForDomMutations(waitForDomMutations));
+  }
+
+  private Driver driver(SelenideConfig config) {
+    return new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  }
+}
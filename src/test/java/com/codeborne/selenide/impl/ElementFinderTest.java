@@ -1,12 +1,32 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.ElementNotFound;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
+import static com.codeborne.selenide.Condition.exist;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ElementFinderTest implements WithAssertions {
@@ -43,4 +63,202 @@ class ElementFinderTest implements WithAssertions {
     assertThat(new ElementFinder(driver, parent, By.xpath("//*[@id='app']"), 3))
       .hasToString("{By.xpath: //*[@id='app'][3]}");
   }
+
+  @Test
+  void findsElementEveryTimeByDefault() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(driverWith(webDriver, false), null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(element);
+    assertThat(finder.getWebElement()).isSameAs(element);
+    verify(webDriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  void canReuseFoundElement() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.findElement(By.id("app"))).thenReturn(element);
+    ElementFinder finder = new ElementFinder(driverWith(webDriver, true), null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(element);
+    assertThat(finder.getWebElement()).isSameAs(element);
+    verify(webDriver, times(1)).findElement(By.id("app"));
+  }
+
+  @Test
+  void findsElementAgainAfterCacheIsInvalidated() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement element1 = mock(WebElement.class);
+    WebElement element2 = mock(WebElement.class);
+    when(webDriver.findElement(By.id("app"))).thenReturn(element1, element2);
+    ElementFinder finder = new ElementFinder(driverWith(webDriver, true), null, By.id("app"), 0);
+
+    assertThat(finder.getWebElement()).isSameAs(element1);
+    finder.invalidateCache();
+    assertThat(finder.getWebElement()).isSameAs(element2);
+    verify(webDriver, times(2)).findElement(By.id("app"));
+  }
+
+  @Test
+  void invalidatingChildCacheAlsoInvalidatesParentCache() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement form = mock(WebElement.class);
+    WebElement input = mock(WebElement.class);
+    when(webDriver.findElement(By.id("form"))).thenReturn(form);
+    when(form.findElement(By.name("login"))).thenReturn(input);
+    Driver driver = driverWith(webDriver, true);
+    SelenideElement parent = ElementFinder.wrap(driver, null, By.id("form"), 0);
+    ElementFinder child = new ElementFinder(driver, parent, By.name("login"), 0);
+
+    child.getWebElement();
+    child.getWebElement();
+    verify(webDriver, times(1)).findElement(By.id("form"));
+
+    child.invalidateCache();
+    child.getWebElement();
+    verify(webDriver, times(2)).findElement(By.id("form"));
+    verify(form, times(2)).findElement(By.name("login"));
+  }
+
+  @Test
+  void searchesNestedElementsByOneScript_ifSearchViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(element);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+    SelenideElement form = ElementFinder.wrap(driver, null, By.cssSelector("#form"), 0);
+    SelenideElement fieldset = ElementFinder.wrap(driver, form, By.cssSelector("fieldset"), 1);
+    ElementFinder input = new ElementFinder(driver, fieldset, By.xpath("./input"), 0);
+
+    assertThat(input.getWebElement()).isSameAs(element);
+
+    verify(webDriver).executeScript(anyString(), isNull(), eq(asList(
+      asList("css", "#form", 0),
+      asList("css", "fieldset", 1),
+      asList("xpath", "./input", 0))));
+    verify(webDriver, never()).findElement(any());
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void searchesOnlyElementWithGivenIndex_ifSearchViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(element);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+
+    assertThat(new ElementFinder(driver, null, By.xpath("//tr"), 1500).getWebElement()).isSameAs(element);
+
+    verify(webDriver).executeScript(anyString(), isNull(), eq(singletonList(asList("xpath", "//tr", 1500))));
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void reportsWhichStepOfNestedSearchFailed() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(1L);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+    SelenideElement form = ElementFinder.wrap(driver, null, By.cssSelector("#form"), 0);
+    ElementFinder input = new ElementFinder(driver, form, By.xpath("./input"), 2);
+
+    assertThatThrownBy(input::getWebElement)
+      .isInstanceOf(NoSuchElementException.class)
+      .hasMessageStartingWith("Cannot locate an element By.xpath: ./input[2]");
+  }
+
+  @Test
+  void reportsInvalidSelectorOfScriptedSearch_asInvalidSelectorException() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    when(webDriver.executeScript(anyString(), any(), any())).thenThrow(new JavascriptException(
+      "javascript error: Invalid selector #form[: 'Failed to execute 'querySelector' on 'Document'\n  (Session info: chrome=70.0)"));
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+
+    assertThatThrownBy(() -> new ElementFinder(driver, null, By.cssSelector("#form["), 1).getWebElement())
+      .isInstanceOf(InvalidSelectorException.class)
+      .hasMessageStartingWith("Invalid selector #form[: 'Failed to execute 'querySelector' on 'Document'")
+      .hasCauseInstanceOf(JavascriptException.class);
+  }
+
+  @Test
+  void searchesSubclassesOfCssSelectorWithoutScript() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    By byCustomCss = new By.ByCssSelector("#form") {
+    };
+    when(webDriver.findElement(byCustomCss)).thenReturn(element);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+
+    assertThat(new ElementFinder(driver, null, byCustomCss, 0).getWebElement()).isSameAs(element);
+    verify(webDriver, never()).executeScript(anyString(), any(), any());
+  }
+
+  @Test
+  void searchesParentSeparately_ifItsSelectorIsNotSupportedByJs() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement form = mock(WebElement.class);
+    WebElement input = mock(WebElement.class);
+    when(webDriver.findElement(By.id("form"))).thenReturn(form);
+    when(form.findElement(By.cssSelector("input"))).thenReturn(input);
+    Driver driver = new DriverStub(new SelenideConfig().searchViaJs(true), new Browser("chrome", false), webDriver, null);
+    SelenideElement parent = ElementFinder.wrap(driver, null, By.id("form"), 0);
+
+    assertThat(new ElementFinder(driver, parent, By.cssSelector("input"), 0).getWebElement()).isSameAs(input);
+    verify(webDriver, never()).executeScript(anyString(), any(), any());
+  }
+
+  @Test
+  void searchesNestedElementsSeparatelyByDefault() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement form = mock(WebElement.class);
+    WebElement input = mock(WebElement.class);
+    when(webDriver.findElement(By.cssSelector("#form"))).thenReturn(form);
+    when(form.findElement(By.cssSelector("input"))).thenReturn(input);
+    Driver driver = driverWith(webDriver, false);
+    SelenideElement parent = ElementFinder.wrap(driver, null, By.cssSelector("#form"), 0);
+
+    assertThat(new ElementFinder(driver, parent, By.cssSelector("input"), 0).getWebElement()).isSameAs(input);
+    verify(webDriver, never()).executeScript(anyString(), any(), any());
+  }
+
+  @Test
+  void reportsMissingParentWithoutWaitingForIt() {
+    WebDriver webDriver = mock(WebDriver.class);
+    when(webDriver.findElement(any())).thenThrow(new NoSuchElementException("not found"));
+    Driver driver = driverWith(webDriver, false);
+    SelenideElement grandParent = ElementFinder.wrap(driver, null, By.id("page"), 0);
+    SelenideElement parent = ElementFinder.wrap(driver, grandParent, By.id("form"), 0);
+    ElementFinder child = new ElementFinder(driver, parent, By.name("login"), 0);
+
+    assertThatThrownBy(() -> child.createElementNotFoundError(exist, new NoSuchElementException("login")))
+      .isInstanceOf(ElementNotFound.class)
+      .hasMessageStartingWith("Element not found {By.id: page}");
+    verify(webDriver, times(1)).findElement(By.id("page"));
+  }
+
+  @Test
+  void reportsMissingMiddleAncestor_lookingUpEveryAncestorOnlyOnce() {
+    WebDriver webDriver = mock(WebDriver.class);
+    WebElement page = mock(WebElement.class);
+    when(webDriver.findElement(By.id("page"))).thenReturn(page);
+    when(page.findElement(any())).thenThrow(new NoSuchElementException("not found"));
+    Driver driver = driverWith(webDriver, false);
+    SelenideElement grandParent = ElementFinder.wrap(driver, null, By.id("page"), 0);
+    SelenideElement parent = ElementFinder.wrap(driver, grandParent, By.id("form"), 0);
+    SelenideElement fieldset = ElementFinder.wrap(driver, parent, By.tagName("fieldset"), 0);
+    ElementFinder child = new ElementFinder(driver, fieldset, By.name("login"), 0);
+
+    assertThatThrownBy(() -> child.createElementNotFoundError(exist, new NoSuchElementException("login")))
+      .isInstanceOf(ElementNotFound.class)
+      .hasMessageStartingWith("Element not found {By.id: form}");
+    verify(webDriver, times(1)).findElement(By.id("page"));
+    verify(page, times(1)).findElement(By.id("form"));
+  }
+
+  private Driver driverWith(WebDriver webDriver, boolean cacheElementReferences) {
+    SelenideConfig config = new SelenideConfig().cacheElementReferences(cacheElementReferences);
+    return new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  }
 }
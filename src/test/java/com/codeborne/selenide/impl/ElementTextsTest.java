@@ -0,0 +1,65 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.ElementsCollection;
+import com.codeborne.selenide.SelenideConfig;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class ElementTextsTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+  private final List<WebElement> elements = asList(element1, element2);
+
+  @Test
+  void fetchesAllTextsBySingleScript_ifConditionsViaJsEnabled() {
+    when(webDriver.executeScript(anyString(), eq(elements))).thenReturn(asList("One", "Two"));
+
+    assertThat(ElementTexts.instance.of(driver(true), elements)).isEqualTo(asList("One", "Two"));
+    verify(element1, never()).getText();
+    verify(element2, never()).getText();
+  }
+
+  @Test
+  void getsTextsOneByOne_byDefault() {
+    when(element1.getText()).thenReturn("One");
+    when(element2.getText()).thenReturn("Two");
+
+    assertThat(ElementTexts.instance.of(driver(false), elements)).isEqualTo(asList("One", "Two"));
+    verifyZeroInteractions(webDriver);
+  }
+
+  @Test
+  void failSafeTexts_fallBackToOneByOne_ifSomeElementDisappeared() {
+    when(webDriver.executeScript(anyString(), eq(elements))).thenThrow(new StaleElementReferenceException("gone"));
+    when(element1.getText()).thenReturn("One");
+    when(element2.getText()).thenThrow(new StaleElementReferenceException("gone"));
+
+    List<String> texts = ElementsCollection.texts(driver(true), elements);
+
+    assertThat(texts.get(0)).isEqualTo("One");
+    assertThat(texts.get(1)).startsWith("org.openqa.selenium.StaleElementReferenceException: gone");
+  }
+
+  private Driver driver(boolean conditionsViaJs) {
+    SelenideConfig config = new SelenideConfig().conditionsViaJs(conditionsViaJs);
+    return new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  }
+}
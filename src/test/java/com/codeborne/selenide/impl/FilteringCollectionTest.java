@@ -2,13 +2,27 @@ package com.codeborne.selenide.impl;
 
 import java.util.List;
 
+import com.codeborne.selenide.Browser;
 import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
+import static com.codeborne.selenide.Condition.text;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class FilteringCollectionTest implements WithAssertions {
@@ -22,6 +36,7 @@ class FilteringCollectionTest implements WithAssertions {
 
     WebElementsCollection mockedCollection = mock(WebElementsCollection.class);
     when(mockedCollection.getElements()).thenReturn(asList(mockedWebElement1, mockedWebElement2));
+    when(mockedCollection.driver()).thenReturn(new DriverStub());
     FilteringCollection filteringCollection = new FilteringCollection(mockedCollection, Condition.visible);
 
     List<WebElement> actualElements = filteringCollection.getElements();
@@ -31,6 +46,56 @@ class FilteringCollectionTest implements WithAssertions {
       .isEqualTo(mockedWebElement2);
   }
 
+  @Test
+  void searchesAndFiltersElementsBySingleScript_ifSearchAndConditionsViaJsEnabled() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement mockedWebElement2 = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), any(), any())).thenReturn(singletonList(mockedWebElement2));
+    SelenideConfig config = new SelenideConfig().searchViaJs(true).conditionsViaJs(true);
+    DriverStub driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+    BySelectorCollection rows = new BySelectorCollection(driver, By.cssSelector(".row"));
+    FilteringCollection filteringCollection = new FilteringCollection(rows, text("Paid"));
+
+    assertThat(filteringCollection.getElements()).containsExactly(mockedWebElement2);
+    verify(webDriver).executeScript(contains("'Paid')) matching.push(element);"), isNull(),
+      eq(singletonList(asList("css", ".row", 0))));
+    verify(webDriver, never()).findElements(any());
+  }
+
+  @Test
+  void fetchesAndFiltersElementsOneByOne_ifCollectionCannotBeSearchedByScript() {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement mockedWebElement1 = mock(WebElement.class);
+    WebElement mockedWebElement2 = mock(WebElement.class);
+    when(mockedWebElement1.getText()).thenReturn("Free");
+    when(mockedWebElement2.getText()).thenReturn("Paid");
+    WebElementsCollection mockedCollection = mock(WebElementsCollection.class);
+    when(mockedCollection.getElements()).thenReturn(asList(mockedWebElement1, mockedWebElement2));
+    when(mockedCollection.driver()).thenReturn(
+      new DriverStub(new SelenideConfig().conditionsViaJs(true), new Browser("chrome", false), webDriver, null));
+    FilteringCollection filteringCollection = new FilteringCollection(mockedCollection, text("Paid"));
+
+    assertThat(filteringCollection.getElements()).containsExactly(mockedWebElement2);
+    verify(webDriver, never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  void stopsCheckingElementsWhenRequestedSliceIsFound() {
+    WebElement mockedWebElement1 = mock(WebElement.class);
+    WebElement mockedWebElement2 = mock(WebElement.class);
+    WebElement mockedWebElement3 = mock(WebElement.class);
+    when(mockedWebElement1.isDisplayed()).thenReturn(true);
+    when(mockedWebElement2.isDisplayed()).thenReturn(true);
+
+    WebElementsCollection mockedCollection = mock(WebElementsCollection.class);
+    when(mockedCollection.getElements()).thenReturn(asList(mockedWebElement1, mockedWebElement2, mockedWebElement3));
+    when(mockedCollection.driver()).thenReturn(new DriverStub());
+    FilteringCollection filteringCollection = new FilteringCollection(mockedCollection, Condition.visible);
+
+    assertThat(filteringCollection.getElements(Slice.at(1))).containsExactly(mockedWebElement2);
+    verify(mockedWebElement3, never()).isDisplayed();
+  }
+
   @Test
   void description() {
     WebElementsCollection mockedCollection = mock(WebElementsCollection.class);
@@ -0,0 +1,79 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.ex.ElementNotFound;
+import com.codeborne.selenide.ex.ElementShould;
+import com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FusedActionTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final WebElement element = mock(WebElement.class);
+  private final FusedAction action = new FusedAction("return element.value + args[0];");
+
+  @Test
+  void performsActionOnFoundElement() {
+    when(webDriver.findElement(By.cssSelector("#name"))).thenReturn(element);
+    when(webDriver.executeScript(anyString(), eq(element), isNull(), isNull(), eq("!"))).thenReturn(asList("ok", "John!"));
+    ElementFinder locator = new ElementFinder(driver(new SelenideConfig()), null, By.cssSelector("#name"), 0);
+
+    assertThat((String) action.execute(locator, "!")).isEqualTo("John!");
+    verify(webDriver).executeScript(contains("return element.value + args[0];"), eq(element), isNull(), isNull(), eq("!"));
+  }
+
+  @Test
+  void searchesElementInTheSameScript_ifSearchViaJsEnabled() {
+    when(webDriver.executeScript(anyString(), isNull(), isNull(), any(), eq("!"))).thenReturn(asList("ok", "John!"));
+    ElementFinder locator = new ElementFinder(driver(new SelenideConfig().searchViaJs(true)), null, By.cssSelector("#name"), 0);
+
+    assertThat((String) action.execute(locator, "!")).isEqualTo("John!");
+    verify(webDriver).executeScript(anyString(), isNull(), isNull(), eq(singletonList(asList("css", "#name", 0))), eq("!"));
+    verify(webDriver, never()).findElement(any());
+  }
+
+  @Test
+  void reportsElementNotFound() {
+    when(webDriver.executeScript(anyString(), isNull(), isNull(), any(), eq("!"))).thenReturn(asList("not found", 0L));
+    ElementFinder locator = new ElementFinder(driver(new SelenideConfig().searchViaJs(true)), null, By.cssSelector("#name"), 0);
+
+    assertThatThrownBy(() -> action.execute(locator, "!"))
+      .isInstanceOf(ElementNotFound.class)
+      .hasMessageStartingWith("Element not found {#name}");
+  }
+
+  @Test
+  void reportsInvisibleElement() {
+    when(webDriver.findElement(By.cssSelector("#name"))).thenReturn(element);
+    when(webDriver.executeScript(anyString(), eq(element), isNull(), isNull(), eq("!"))).thenReturn(asList("not visible", element));
+    when(webDriver.executeScript(anyString(), any(WebElement.class))).thenReturn(ImmutableMap.of("id", "name"));
+    when(element.getTagName()).thenReturn("input");
+    ElementFinder locator = new ElementFinder(driver(new SelenideConfig()), null, By.cssSelector("#name"), 0);
+
+    assertThatThrownBy(() -> action.execute(locator, "!"))
+      .isInstanceOf(ElementShould.class)
+      .hasMessageStartingWith("Element should be visible {#name}");
+  }
+
+  private Driver driver(SelenideConfig config) {
+    return new DriverStub(config.fusedCommands(true), new Browser("chrome", false), webDriver, null);
+  }
+}
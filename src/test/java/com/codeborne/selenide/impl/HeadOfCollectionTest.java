@@ -6,14 +6,18 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HeadOfCollectionTest implements WithAssertions {
   private final WebElement element1 = mock(WebElement.class);
   private final WebElement element2 = mock(WebElement.class);
   private final WebElement element3 = mock(WebElement.class);
-  private WebElementsCollection originalCollection = mock(WebElementsCollection.class);
+  private WebElementsCollection originalCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
 
   @BeforeEach
   void setUp() {
@@ -40,4 +44,15 @@ class HeadOfCollectionTest implements WithAssertions {
     assertThat($$.getElements())
       .isEqualTo(asList(element1, element2, element3));
   }
+
+  @Test
+  void fetchesOnlyNeededElementsOfOriginalCollection() {
+    when(originalCollection.getElements(Slice.first(2))).thenReturn(asList(element1, element2));
+    when(originalCollection.getElements(Slice.at(1))).thenReturn(singletonList(element2));
+    HeadOfCollection $$ = new HeadOfCollection(originalCollection, 2);
+
+    assertThat($$.getElements()).isEqualTo(asList(element1, element2));
+    assertThat($$.getElements(Slice.at(1))).isEqualTo(singletonList(element2));
+    verify(originalCollection, never()).getElements();
+  }
 }
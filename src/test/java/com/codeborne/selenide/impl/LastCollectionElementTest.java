@@ -13,12 +13,13 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.StaleElementReferenceException;
 
 import static java.util.Arrays.asList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class LastCollectionElementTest implements WithAssertions {
-  private WebElementsCollection mockedElementsCollection = mock(WebElementsCollection.class);
+  private WebElementsCollection mockedElementsCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
   private SelenideElement mockedElement1 = mock(SelenideElement.class);
   private SelenideElement mockedElement2 = mock(SelenideElement.class);
 
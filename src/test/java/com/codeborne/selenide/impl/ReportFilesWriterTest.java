@@ -0,0 +1,92 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.ReportsWriteMode;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static com.codeborne.selenide.ReportsWriteMode.ASYNC;
+import static com.codeborne.selenide.ReportsWriteMode.ASYNC_DROPPING;
+import static com.codeborne.selenide.ReportsWriteMode.SYNC;
+
+class ReportFilesWriterTest implements WithAssertions {
+  private final CountDownLatch diskIsFree = new CountDownLatch(1);
+  private final List<String> writtenFiles = new CopyOnWriteArrayList<>();
+  private final List<String> writtenByTestThread = new CopyOnWriteArrayList<>();
+  private final Thread testThread = Thread.currentThread();
+
+  private final ReportFilesWriter writer = new ReportFilesWriter() {
+    @Override
+    protected void writeNow(byte[] content, File file) {
+      if (Thread.currentThread() == testThread) {
+        writtenByTestThread.add(file.getName());
+      }
+      else {
+        awaitDisk();
+      }
+      writtenFiles.add(file.getName());
+    }
+  };
+
+  @Test
+  void writesFileImmediately_inSyncMode() {
+    writer.write(SYNC, new byte[0], new File("1.png"));
+
+    assertThat(writtenByTestThread).containsExactly("1.png");
+  }
+
+  @Test
+  void writesFilesInBackground_andWaitsForThemOnFlush() {
+    writer.write(ASYNC, new byte[0], new File("1.png"));
+    writer.write(ASYNC, new byte[0], new File("1.html"));
+    assertThat(writtenFiles).isEmpty();
+
+    diskIsFree.countDown();
+    writer.flush();
+    assertThat(writtenFiles).containsExactly("1.png", "1.html");
+    assertThat(writtenByTestThread).isEmpty();
+  }
+
+  @Test
+  void writesFileByTestThread_ifQueueIsFull() {
+    fillQueue(ASYNC);
+
+    writer.write(ASYNC, new byte[0], new File("extra.png"));
+    assertThat(writtenByTestThread).containsExactly("extra.png");
+
+    diskIsFree.countDown();
+    writer.flush();
+    assertThat(writtenFiles).hasSize(18);
+  }
+
+  @Test
+  void skipsFile_ifQueueIsFull_inDroppingMode() {
+    fillQueue(ASYNC_DROPPING);
+
+    writer.write(ASYNC_DROPPING, new byte[0], new File("extra.png"));
+
+    diskIsFree.countDown();
+    writer.flush();
+    assertThat(writtenFiles).hasSize(17).doesNotContain("extra.png");
+    assertThat(writtenByTestThread).isEmpty();
+  }
+
+  private void fillQueue(ReportsWriteMode mode) {
+    for (int i = 0; i < 17; i++) {
+      writer.write(mode, new byte[0], new File(i + ".png"));
+    }
+  }
+
+  private void awaitDisk() {
+    try {
+      diskIsFree.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
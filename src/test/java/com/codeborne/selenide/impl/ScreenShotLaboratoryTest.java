@@ -1,13 +1,36 @@
 package com.codeborne.selenide.impl;
 
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.PageSourceMode;
+import com.codeborne.selenide.ReportsWriteMode;
+import com.codeborne.selenide.SelenideConfig;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.io.File.separatorChar;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ScreenShotLaboratoryTest implements WithAssertions {
   private ScreenShotLaboratory screenshots = new ScreenShotLaboratory() {
@@ -113,4 +136,80 @@ class ScreenShotLaboratoryTest implements WithAssertions {
     assertThat(screenshots.getLastScreenshot())
       .hasToString("12356789.2");
   }
+
+  @Test
+  void savesOnlyFailedElementWithItsNeighbourhood() throws IOException {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), eq(element), eq(100_000))).thenReturn("<!-- body > div -->\n<div><p>Hi</p></div>");
+    Config config = new SelenideConfig().pageSourceMode(PageSourceMode.ELEMENT).reportsFolder(reportsFolder());
+    Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+
+    File file = screenshots.saveElementSourceToFile(config, "failure", driver, element);
+    file.deleteOnExit();
+
+    assertThat(new String(Files.readAllBytes(file.toPath()), UTF_8)).isEqualTo("<!-- body > div -->\n<div><p>Hi</p></div>");
+    verify(webDriver, never()).getPageSource();
+  }
+
+  @Test
+  void savesBeginningOfPageSource_ifFailedElementHasDisappeared() throws IOException {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    when(webDriver.executeScript(anyString(), eq(element), eq(100_000))).thenThrow(new StaleElementReferenceException("gone"));
+    when(webDriver.executeScript(anyString(), isNull(), eq(100_000))).thenReturn("<html><body>");
+    Config config = new SelenideConfig().pageSourceMode(PageSourceMode.ELEMENT).reportsFolder(reportsFolder());
+    Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+
+    File file = screenshots.saveElementSourceToFile(config, "failure", driver, element);
+    file.deleteOnExit();
+
+    assertThat(new String(Files.readAllBytes(file.toPath()), UTF_8)).isEqualTo("<html><body>");
+  }
+
+  @Test
+  void closesAlertAndRetries_ifAlertPreventsSavingElementSource() throws IOException {
+    RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+    WebElement element = mock(WebElement.class);
+    Alert alert = mock(Alert.class);
+    WebDriver.TargetLocator targetLocator = mock(WebDriver.TargetLocator.class);
+    when(webDriver.switchTo()).thenReturn(targetLocator);
+    when(targetLocator.alert()).thenReturn(alert);
+    when(webDriver.executeScript(anyString(), eq(element), eq(100_000)))
+      .thenThrow(new UnhandledAlertException("unexpected alert open"))
+      .thenReturn("<div><p>Hi</p></div>");
+    Config config = new SelenideConfig().pageSourceMode(PageSourceMode.ELEMENT).reportsFolder(reportsFolder());
+    Driver driver = new DriverStub(config, new Browser("chrome", false), webDriver, null);
+
+    File file = screenshots.saveElementSourceToFile(config, "failure", driver, element);
+    file.deleteOnExit();
+
+    verify(alert).accept();
+    assertThat(new String(Files.readAllBytes(file.toPath()), UTF_8)).isEqualTo("<div><p>Hi</p></div>");
+  }
+
+  @Test
+  void writesReportFilesByGivenWriter() {
+    List<String> writtenFiles = new ArrayList<>();
+    ReportFilesWriter writer = new ReportFilesWriter() {
+      @Override
+      public void write(ReportsWriteMode mode, byte[] content, File file) {
+        writtenFiles.add(mode + ":" + file.getName() + ":" + new String(content, UTF_8));
+      }
+    };
+    ScreenShotLaboratory laboratory = new ScreenShotLaboratory(writer) {
+    };
+    Config config = new SelenideConfig().reportsWriteMode(ReportsWriteMode.ASYNC);
+
+    laboratory.writeReport(config, "<html>".getBytes(UTF_8), new File("page.html"));
+    laboratory.writeToFile("error", new File("error.html"));
+
+    assertThat(writtenFiles).containsExactly("ASYNC:page.html:<html>", "SYNC:error.html:error");
+  }
+
+  private String reportsFolder() throws IOException {
+    File folder = Files.createTempDirectory("reports").toFile();
+    folder.deleteOnExit();
+    return folder.getAbsolutePath();
+  }
 }
@@ -1,6 +1,7 @@
 package com.codeborne.selenide.impl;
 
 import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
 import com.codeborne.selenide.SelenideElement;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,12 +9,13 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
 
 import static java.util.Collections.singletonList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 class SelenideElementListIteratorTest implements WithAssertions {
-  private Driver driver = mock(Driver.class);
-  private WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class);
+  private Driver driver = new DriverStub();
+  private WebElementsCollection mockedWebElementCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
 
   @BeforeEach
   void setUp() {
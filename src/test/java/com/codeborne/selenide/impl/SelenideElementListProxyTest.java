@@ -0,0 +1,87 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideElement;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SelenideElementListProxyTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final ElementLocator locator = mock(ElementLocator.class);
+  private final WebElement element1 = mock(WebElement.class);
+  private final WebElement element2 = mock(WebElement.class);
+
+  @Test
+  void findsElementsAgainForEveryCall() {
+    when(locator.findElements()).thenReturn(asList(element1, element2), asList(element2));
+    List<SelenideElement> list = SelenideElementListProxy.wrap(driver(), locator);
+
+    assertThat(list.size()).isEqualTo(2);
+    assertThat(list.get(0).toWebElement()).isSameAs(element2);
+    verify(locator, times(2)).findElements();
+  }
+
+  @Test
+  void returnsModifiableCopiesOfList() {
+    when(locator.findElements()).thenReturn(asList(element1, element2));
+    List<SelenideElement> list = SelenideElementListProxy.wrap(driver(), locator);
+
+    List<SelenideElement> subList = list.subList(0, 2);
+    subList.remove(0);
+    assertThat(subList).hasSize(1);
+    assertThat(list.size()).isEqualTo(2);
+  }
+
+  @Test
+  void snapshot_findsElementsOnce_andReusesWrappedElements() {
+    when(locator.findElements()).thenReturn(asList(element1, element2));
+    List<SelenideElement> list = SelenideElementListProxy.wrap(driver(), locator, true);
+
+    assertThat(list.size()).isEqualTo(2);
+    SelenideElement first = list.get(0);
+    assertThat(first.toWebElement()).isSameAs(element1);
+    assertThat(list.get(0)).isSameAs(first);
+    assertThat(list.isEmpty()).isFalse();
+    verify(locator, times(1)).findElements();
+  }
+
+  @Test
+  void snapshot_findsElementsAgainAfterRefresh() {
+    when(locator.findElements()).thenReturn(asList(element1, element2), asList(element2));
+    List<SelenideElement> list = SelenideElementListProxy.wrap(driver(), locator, true);
+
+    assertThat(list.size()).isEqualTo(2);
+    SelenideElementListProxy.refresh(list);
+
+    assertThat(list.size()).isEqualTo(1);
+    assertThat(list.get(0).toWebElement()).isSameAs(element2);
+    verify(locator, times(2)).findElements();
+  }
+
+  @Test
+  void snapshot_cannotBeModified() {
+    when(locator.findElements()).thenReturn(asList(element1, element2));
+    List<SelenideElement> list = SelenideElementListProxy.wrap(driver(), locator, true);
+
+    assertThatThrownBy(() -> list.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+    assertThat(list.size()).isEqualTo(2);
+  }
+
+  private Driver driver() {
+    return new DriverStub(new SelenideConfig(), new Browser("chrome", false), webDriver, null);
+  }
+}
@@ -4,12 +4,16 @@ import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.DriverStub;
 import com.codeborne.selenide.ElementsContainer;
+import com.codeborne.selenide.PollingStrategy;
+import com.codeborne.selenide.SelectorMode;
 import com.codeborne.selenide.SelenideElement;
 import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.CacheLookup;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
 
@@ -18,7 +22,10 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +37,12 @@ class SelenideFieldDecoratorTest implements WithAssertions {
   private SelenidePageFactory pageFactory = new SelenidePageFactory();
   private SelenideFieldDecorator fieldDecorator = new SelenideFieldDecorator(pageFactory, driver, webDriver);
 
+  @BeforeEach
+  void setUp() {
+    when(config.selectorMode()).thenReturn(SelectorMode.CSS);
+    when(config.pollingStrategy()).thenReturn(PollingStrategy.fixed());
+  }
+
   @Test
   void usesDefaultElementLocatorFactory() throws NoSuchFieldException {
     SelenideFieldDecorator fieldDecorator = new SelenideFieldDecorator(pageFactory, driver, webDriver);
@@ -67,6 +80,22 @@ class SelenideFieldDecoratorTest implements WithAssertions {
       .isInstanceOf(SelenideElement.class);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void decoratesCachedListOfSelenideElements_asSnapshot() throws NoSuchFieldException {
+    when(webDriver.findElements(any(By.class))).thenReturn(asList(mock(WebElement.class), mock(WebElement.class)));
+    List<SelenideElement> elements =
+      (List<SelenideElement>) fieldDecorator.decorate(getClass().getClassLoader(), getField("cachedRows"));
+
+    assertThat(elements).hasSize(2);
+    assertThat(elements.get(1)).isSameAs(elements.get(1));
+    verify(webDriver, times(1)).findElements(any(By.class));
+
+    SelenideElementListProxy.refresh(elements);
+    assertThat(elements).hasSize(2);
+    verify(webDriver, times(2)).findElements(any(By.class));
+  }
+
   @Test
   void decoratesVanillaWebElements() throws NoSuchFieldException {
     final Object someDiv = fieldDecorator.decorate(getClass().getClassLoader(), getField("someDiv"));
@@ -138,9 +167,9 @@ class SelenideFieldDecoratorTest implements WithAssertions {
     List<StatusBlock> statusHistory = (List<StatusBlock>) decoratedField;
     assertThat(statusHistory)
       .isNotNull();
-    verify(webDriver).findElements(By.cssSelector("table.history tr.status"));
     assertThat(statusHistory)
       .hasSize(2);
+    verify(webDriver, atLeastOnce()).findElements(By.cssSelector("table.history tr.status"));
     assertThat(statusHistory.get(0).getSelf().getText())
       .isEqualTo("status element1 text");
     assertThat(statusHistory.get(0).lastLogin)
@@ -153,11 +182,31 @@ class SelenideFieldDecoratorTest implements WithAssertions {
     verify(statusElement1).findElement(By.className("name"));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void elementsContainerListSearchesElementsOnlyWhenAccessed() throws NoSuchFieldException {
+    WebElement statusElement = mock(WebElement.class);
+    when(webDriver.findElements(any(By.class))).thenReturn(asList(mock(WebElement.class), statusElement));
+
+    List<StatusBlock> statusHistory = (List<StatusBlock>) fieldDecorator.decorate(getClass().getClassLoader(),
+      getField("statusHistory"));
+    verify(webDriver, never()).findElements(any(By.class));
+
+    StatusBlock status = statusHistory.get(1);
+    assertThat(statusHistory.get(1)).isSameAs(status);
+    assertThat(status.getSelf().toWebElement()).isSameAs(statusElement);
+    assertThatThrownBy(() -> statusHistory.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
   static class TestPage {
     SelenideElement username;
     @FindBy(css = "table tbody tr")
     List<SelenideElement> rows;
 
+    @CacheLookup
+    @FindBy(css = "table tbody tr")
+    List<SelenideElement> cachedRows;
+
     WebElement someDiv;
 
     @FindBy(css = "table tbody tr")
@@ -0,0 +1,47 @@
+package com.codeborne.selenide.impl;
+
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+class SliceTest implements WithAssertions {
+  private final List<String> list = asList("a", "b", "c", "d", "e");
+
+  @Test
+  void firstElements() {
+    assertThat(Slice.first(2).of(list)).containsExactly("a", "b");
+    assertThat(Slice.first(10).of(list)).containsExactly("a", "b", "c", "d", "e");
+    assertThat(new Slice(3, 5, false).of(list)).containsExactly("d", "e");
+    assertThat(new Slice(7, 5, false).of(list)).isEmpty();
+  }
+
+  @Test
+  void lastElements() {
+    assertThat(Slice.last(2).of(list)).containsExactly("d", "e");
+    assertThat(Slice.last(10).of(list)).containsExactly("a", "b", "c", "d", "e");
+    assertThat(new Slice(1, 2, true).of(list)).containsExactly("c", "d");
+    assertThat(new Slice(7, 2, true).of(list)).isEmpty();
+  }
+
+  @Test
+  void elementAtIndex() {
+    assertThat(Slice.at(2).of(list)).containsExactly("c");
+    assertThat(Slice.at(5).of(list)).isEmpty();
+  }
+
+  @Test
+  void sliceWithinPartOfCollection() {
+    assertThat(Slice.at(2).within(3)).isEqualTo(Slice.at(2));
+    assertThat(Slice.at(3).within(3)).isEqualTo(new Slice(3, 0, false));
+    assertThat(new Slice(1, 10, true).within(3)).isEqualTo(new Slice(1, 2, true));
+  }
+
+  @Test
+  void requiredCountDoesNotOverflow() {
+    assertThat(new Slice(5, Integer.MAX_VALUE, false).requiredCount()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(new Slice(5, 3, false).requiredCount()).isEqualTo(8);
+  }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.openqa.selenium.WebElement;
 
 import static java.util.Arrays.asList;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -13,7 +14,7 @@ class TailOfCollectionTest implements WithAssertions {
   private final WebElement element1 = mock(WebElement.class);
   private final WebElement element2 = mock(WebElement.class);
   private final WebElement element3 = mock(WebElement.class);
-  private WebElementsCollection originalCollection = mock(WebElementsCollection.class);
+  private WebElementsCollection originalCollection = mock(WebElementsCollection.class, CALLS_REAL_METHODS);
 
   @BeforeEach
   void setUp() {
@@ -0,0 +1,130 @@
+package com.codeborne.selenide.impl;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.DriverStub;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.ex.ElementShould;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static com.codeborne.selenide.Condition.cssClass;
+import static com.codeborne.selenide.Condition.enabled;
+import static com.codeborne.selenide.Condition.matchText;
+import static com.codeborne.selenide.Condition.text;
+import static com.codeborne.selenide.Condition.visible;
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebElementSourceTest implements WithAssertions {
+  private final RemoteWebDriver webDriver = mock(RemoteWebDriver.class);
+  private final WebElement element = mock(WebElement.class);
+
+  @Test
+  void checksAllConditionsBySingleScript_ifConditionsViaJsEnabled() {
+    when(webDriver.findElement(By.cssSelector("#app"))).thenReturn(element);
+    when(webDriver.executeScript(anyString(), eq(element))).thenReturn(null);
+    WebElementSource source = new ElementFinder(driver(true), null, By.cssSelector("#app"), 0);
+
+    source.checkConditions("", null, asList(visible, text("Hello"), cssClass("active")), false);
+
+    verify(webDriver, times(1)).executeScript(contains("if (!(selenide.visible(element))) return [0, null];"), eq(element));
+    verify(webDriver, times(1)).findElement(any());
+    verify(element, never()).isDisplayed();
+    verify(element, never()).getText();
+  }
+
+  @Test
+  void reportsFirstConditionFailedInBrowser() {
+    when(webDriver.findElement(By.cssSelector("#app"))).thenReturn(element);
+    when(webDriver.executeScript(contains("var selenide"), eq(element))).thenReturn(asList(1L, null));
+    WebElementSource source = new ElementFinder(driver(true), null, By.cssSelector("#app"), 0);
+
+    assertThatThrownBy(() -> source.checkConditions("have ", null, asList(visible, text("Hello")), false))
+      .isInstanceOf(ElementShould.class)
+      .hasMessageStartingWith("Element should have text 'Hello' {#app}");
+  }
+
+  @Test
+  void reportsActualValueSeenByTheSameScript() {
+    when(webDriver.findElement(By.cssSelector("#app"))).thenReturn(element);
+    when(webDriver.executeScript(contains("var selenide"), eq(element))).thenReturn(asList(1L, "disabled"));
+    when(element.isEnabled()).thenReturn(true);
+    WebElementSource source = new ElementFinder(driver(true), null, By.cssSelector("#app"), 0);
+
+    assertThatThrownBy(() -> source.checkConditions("be ", null, asList(visible, enabled), false))
+      .isInstanceOf(ElementShould.class)
+      .hasMessageStartingWith("Element should be enabled {#app}")
+      .hasMessageContaining("Actual value: disabled");
+    verify(webDriver).executeScript(contains("return [1, selenide.isEnabled(element) ? 'enabled' : 'disabled'];"), eq(element));
+    verify(element, never()).isEnabled();
+  }
+
+  @Test
+  void checksConditionsOneByOne_ifSomeOfThemCannotBeCheckedByJavaScript() {
+    when(webDriver.findElement(By.cssSelector("#app"))).thenReturn(element);
+    when(element.isDisplayed()).thenReturn(true);
+    when(element.getText()).thenReturn("Hello world");
+    WebElementSource source = new ElementFinder(driver(true), null, By.cssSelector("#app"), 0);
+
+    source.checkConditions("", null, asList(visible, matchText("Hello.*")), false);
+
+    verify(webDriver, times(2)).findElement(any());
+    verify(webDriver, never()).executeScript(anyString(), any());
+    verify(element).isDisplayed();
+    verify(element).getText();
+  }
+
+  @Test
+  void checksSingleConditionInJava() {
+    when(webDriver.findElement(By.cssSelector("#app"))).thenReturn(element);
+    when(element.isDisplayed()).thenReturn(true);
+    WebElementSource source = new ElementFinder(driver(true), null, By.cssSelector("#app"), 0);
+
+    source.checkCondition("", null, visible, false);
+
+    verify(webDriver, never()).executeScript(anyString(), any());
+  }
+
+  @Test
+  void checksConditionsOneByOne_ifScriptFailed() {
+    when(webDriver.findElement(By.cssSelector("#app"))).thenReturn(element);
+    when(webDriver.executeScript(anyString(), eq(element))).thenThrow(new JavascriptException("Cannot read property"));
+    when(element.isDisplayed()).thenReturn(true);
+    when(element.getText()).thenReturn("Bye");
+    WebElementSource source = new ElementFinder(driver(true), null, By.cssSelector("#app"), 0);
+
+    assertThatThrownBy(() -> source.checkConditions("have ", null, asList(visible, text("Hello")), false))
+      .isInstanceOf(ElementShould.class)
+      .hasMessageStartingWith("Element should have text 'Hello' {#app}");
+  }
+
+  @Test
+  void checksConditionsInJavaByDefault() {
+    when(webDriver.findElement(By.cssSelector("#app"))).thenReturn(element);
+    when(element.isDisplayed()).thenReturn(true);
+    when(element.getText()).thenReturn("Hello world");
+    WebElementSource source = new ElementFinder(driver(false), null, By.cssSelector("#app"), 0);
+
+    source.checkConditions("", null, asList(visible, text("Hello")), false);
+
+    verify(webDriver, never()).executeScript(anyString(), any());
+  }
+
+  private Driver driver(boolean conditionsViaJs) {
+    SelenideConfig config = new SelenideConfig().conditionsViaJs(conditionsViaJs);
+    return new DriverStub(config, new Browser("chrome", false), webDriver, null);
+  }
+}
@@ -0,0 +1,46 @@
+package integration;
+
+import com.codeborne.selenide.PageSourceMode;
+import com.codeborne.selenide.SelenideConfig;
+import com.codeborne.selenide.SelenideDriver;
+import com.codeborne.selenide.drivercommands.WebDriverWrapper;
+import com.codeborne.selenide.impl.ScreenShotLaboratory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class ElementSourceTest extends BaseIntegrationTest {
+  private final File reportsFolder = new File("build/reports/tests/element-source");
+  private final SelenideConfig config = new SelenideConfig().browser(browser).baseUrl(getBaseUrl())
+    .savePageSource(true).pageSourceMode(PageSourceMode.ELEMENT).reportsFolder(reportsFolder.getAbsolutePath());
+  private final SelenideDriver driver = new SelenideDriver(config);
+
+  @AfterEach
+  void tearDown() {
+    driver.close();
+  }
+
+  @Test
+  void savesFailedElementWithItsNeighbourhoodAndPath() throws IOException {
+    driver.open("/page_with_selects_without_jquery.html");
+
+    ScreenShotLaboratory.getInstance().takeFailureScreenShot(new WebDriverWrapper(config, driver.getWebDriver()),
+      "selectedDomain", driver.$("#selectedDomain").toWebElement());
+    ScreenShotLaboratory.getInstance().flush();
+
+    String source = new String(Files.readAllBytes(new File(reportsFolder, "selectedDomain.html").toPath()), UTF_8);
+    assertThat(source)
+      .startsWith("<!-- html > body > div.container > div.container > div#domain-container.container > h6#selectedDomain -->\n")
+      .contains("<div id=\"domain-container\" class=\"container\">")
+      .contains("<h2></h2>")
+      .contains("<h6 id=\"selectedDomain\"></h6>")
+      .doesNotContain("Dropdown list")
+      .doesNotContain("<select")
+      .doesNotContain("Page with selects");
+  }
+}
@@ -37,6 +37,15 @@ public class Configuration {
    */
   public static long pollingInterval = defaults.pollingInterval();
 
+  /**
+   * Defines how long to sleep between checks while waiting for a condition.
+   * For example, {@code PollingStrategy.exponentialBackoff(2000)} checks often at first
+   * and rarely during long waits.
+   * <br>
+   * Default value: {@link PollingStrategy#fixed()} - always sleep for {@link #pollingInterval}
+   */
+  public static PollingStrategy pollingStrategy = defaults.pollingStrategy();
+
   /**
    * If holdBrowserOpen is true, browser window stays open after running tests. It may be useful for debugging.
    * Can be configured either programmatically or by system property "-Dselenide.holdBrowserOpen=true".
@@ -159,6 +168,27 @@ public class Configuration {
    */
   public static boolean savePageSource = defaults.savePageSource();
 
+  /**
+   * Defines what part of page source is saved on failing tests: the whole page source,
+   * or only the failed element with its neighbourhood (see {@link PageSourceMode}).
+   * Saving only the element makes sense for big pages and remote browsers (e.g. Selenium Grid).
+   * Can be configured either programmatically or by system property "-Dselenide.pageSourceMode=ELEMENT".
+   * <br>
+   * Default value: FULL
+   */
+  public static PageSourceMode pageSourceMode = defaults.pageSourceMode();
+
+  /**
+   * Defines if screenshots and page sources are written to disk by the failing test itself,
+   * or by a background thread (see {@link ReportsWriteMode}).
+   * Only taking a screenshot needs the browser, so with background writing the test continues earlier.
+   * All files are written before JVM exits (or when {@link Screenshots#flush()} is called).
+   * Can be configured either programmatically or by system property "-Dselenide.reportsWriteMode=ASYNC".
+   * <br>
+   * Default value: SYNC
+   */
+  public static ReportsWriteMode reportsWriteMode = defaults.reportsWriteMode();
+
   /**
    * Folder to store screenshots to.
    * Can be configured either programmatically or by system property "-Dselenide.reportsFolder=test-result/reports".
@@ -209,6 +239,91 @@ public class Configuration {
    */
   public static boolean versatileSetValue = defaults.versatileSetValue();
 
+  /**
+   * If set to true, SelenideElement remembers the WebElement found by previous command and reuses it
+   * in subsequent commands instead of searching it in browser again.
+   * The element is searched again if the cached reference becomes stale or a command fails.
+   * <br>
+   * Makes sense for remote browsers (e.g. Selenium Grid) where every search is a network round-trip.
+   * Can be configured either programmatically or by system property "-Dselenide.cacheElementReferences=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean cacheElementReferences = defaults.cacheElementReferences();
+
+  /**
+   * If set to true, nested elements like {@code $("#a").$(".b").$x("./c")} are searched
+   * by a single JavaScript call instead of searching every parent element separately.
+   * Only CSS and XPath selectors are supported, other selectors are searched in the usual way.
+   * <br>
+   * Makes sense for remote browsers (e.g. Selenium Grid) where every search is a network round-trip.
+   * Can be configured either programmatically or by system property "-Dselenide.searchViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean searchViaJs = defaults.searchViaJs();
+
+  /**
+   * If set to true, Selenide doesn't sleep blindly between checks of a condition.
+   * Instead, it waits in browser (by asynchronous script) until the page reports a DOM mutation,
+   * but not longer than the usual delay. Thus it reacts to changes faster and makes fewer useless checks.
+   * <br>
+   * Requires browser support for asynchronous scripts, otherwise Selenide falls back to sleeping.
+   * Can be configured either programmatically or by system property "-Dselenide.waitForDomMutations=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean waitForDomMutations = defaults.waitForDomMutations();
+
+  /**
+   * If set to true, Selenide doesn't repeat a failed check of a condition while DOM of the page has not changed.
+   * Every wait in browser reports a counter of DOM mutations, and the check is repeated only when the counter changes.
+   * Thus long waits (like {@code shouldHave(size(10))} with a big timeout) make much less requests to the browser.
+   * <br>
+   * Only checks of conditions ({@code should*}, {@code waitUntil}, {@code waitWhile}) are skipped, other commands are always executed.
+   * <br>
+   * Works only together with {@link #waitForDomMutations}.
+   * MutationObserver doesn't see changes of element properties (like {@code value} or {@code checked} set by JavaScript),
+   * focus, CSS transitions and animations, scrolling and layout, loading of images and passage of time.
+   * To not miss such changes, the check is anyway repeated on every 5th poll and on the last poll before timeout.
+   * Can be configured either programmatically or by system property "-Dselenide.skipUnchangedDom=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean skipUnchangedDom = defaults.skipUnchangedDom();
+
+  /**
+   * If set to true, all conditions of one {@code should(...)} call with several conditions
+   * (like {@code visible}, {@code text} or {@code cssClass}) are checked by a single JavaScript call,
+   * which also gets the actual value of the failed condition for the error message.
+   * A single condition is checked the usual way.
+   * Custom conditions are checked the usual way unless they implement {@link Condition#toJavaScript()}.
+   * Texts of collection elements (for {@code texts}, {@code exactTexts} etc.) are fetched by a single JavaScript call.
+   * Together with {@link #searchViaJs}, collection methods {@code filterBy}, {@code excludeWith} and {@code findBy}
+   * search the collection and check its elements by a single JavaScript call.
+   * Collection conditions {@code allMatch}, {@code anyMatch} and {@code noneMatch} too.
+   * <br>
+   * Note that JavaScript implementations of visibility and text are close to WebDriver's ones, but not identical.
+   * Can be configured either programmatically or by system property "-Dselenide.conditionsViaJs=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean conditionsViaJs = defaults.conditionsViaJs();
+
+  /**
+   * If set to true, some commands check that element is visible and perform the action by a single JavaScript call
+   * (together with searching the element, if {@link #searchViaJs} is enabled):
+   * <ul>
+   *   <li>{@code click()} - only if {@link #clickViaJs} is enabled</li>
+   *   <li>{@code setValue()} - only if {@link #fastSetValue} is enabled</li>
+   *   <li>{@code scrollTo()}</li>
+   * </ul>
+   * Can be configured either programmatically or by system property "-Dselenide.fusedCommands=true".
+   * <br>
+   * Default value: false
+   */
+  public static boolean fusedCommands = defaults.fusedCommands();
+
   /**
    * Choose how Selenide should retrieve web elements: using default CSS or Sizzle (CSS3)
    */
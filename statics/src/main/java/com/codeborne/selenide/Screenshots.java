@@ -19,7 +19,8 @@ public class Screenshots {
   /**
    * Take screenshot and give it filename
    *
-   * @return absolute path of the screenshot taken
+   * @return absolute path of the screenshot taken.
+   * NB! If {@link Configuration#reportsWriteMode} is asynchronous, the file may be not written yet (see {@link #flush()}).
    */
   public static String takeScreenShot(String fileName) {
     return screenshots.takeScreenShot(driver(), fileName);
@@ -76,7 +77,15 @@ public class Screenshots {
   }
 
   /**
-   * Get the last screenshot taken
+   * Wait until all screenshots and page sources are written to disk
+   * (makes sense only if {@link Configuration#reportsWriteMode} is asynchronous)
+   */
+  public static void flush() {
+    screenshots.flush();
+  }
+
+  /**
+   * Get the last screenshot taken (waits until all screenshots are written to disk, see {@link #flush()})
    * @return null if there were no any screenshots taken
    */
   public static File getLastScreenshot() {
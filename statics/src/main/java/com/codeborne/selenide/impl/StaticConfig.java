@@ -4,6 +4,9 @@ import com.codeborne.selenide.AssertionMode;
 import com.codeborne.selenide.Config;
 import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.FileDownloadMode;
+import com.codeborne.selenide.PageSourceMode;
+import com.codeborne.selenide.PollingStrategy;
+import com.codeborne.selenide.ReportsWriteMode;
 import com.codeborne.selenide.SelectorMode;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
@@ -31,6 +34,11 @@ class StaticConfig implements Config {
     return Configuration.pollingInterval;
   }
 
+  @Override
+  public PollingStrategy pollingStrategy() {
+    return Configuration.pollingStrategy;
+  }
+
   @Override
   public boolean holdBrowserOpen() {
     return Configuration.holdBrowserOpen;
@@ -56,6 +64,16 @@ class StaticConfig implements Config {
     return Configuration.savePageSource;
   }
 
+  @Override
+  public PageSourceMode pageSourceMode() {
+    return Configuration.pageSourceMode;
+  }
+
+  @Override
+  public ReportsWriteMode reportsWriteMode() {
+    return Configuration.reportsWriteMode;
+  }
+
   @Override
   public String reportsFolder() {
     return Configuration.reportsFolder;
@@ -76,6 +94,36 @@ class StaticConfig implements Config {
     return Configuration.versatileSetValue;
   }
 
+  @Override
+  public boolean cacheElementReferences() {
+    return Configuration.cacheElementReferences;
+  }
+
+  @Override
+  public boolean searchViaJs() {
+    return Configuration.searchViaJs;
+  }
+
+  @Override
+  public boolean waitForDomMutations() {
+    return Configuration.waitForDomMutations;
+  }
+
+  @Override
+  public boolean skipUnchangedDom() {
+    return Configuration.skipUnchangedDom;
+  }
+
+  @Override
+  public boolean conditionsViaJs() {
+    return Configuration.conditionsViaJs;
+  }
+
+  @Override
+  public boolean fusedCommands() {
+    return Configuration.fusedCommands;
+  }
+
   @Override
   public SelectorMode selectorMode() {
     return Configuration.selectorMode;
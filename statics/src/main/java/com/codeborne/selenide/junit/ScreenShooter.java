@@ -21,6 +21,10 @@ import static com.codeborne.selenide.ex.ErrorMessages.screenshot;
  * or
  * <pre>  {@literal @}Rule
  * public ScreenShooter makeScreenshotOnEveryTest = ScreenShooter.failedTests().to("test-results/img/");</pre>
+ * <p>
+ * NB! If {@link Configuration#reportsWriteMode} is asynchronous, screenshots reported by this rule may be not written yet
+ * when the test finishes. They are written before JVM exits, or call {@link Screenshots#flush()}
+ * (e.g. in {@code @AfterClass}) to wait for them.
  */
 public class ScreenShooter extends TestWatcher {
   private final Logger log = Logger.getLogger(getClass().getName());
@@ -75,5 +75,6 @@ public class ScreenShooterExtension implements BeforeAllCallback, AfterEachCallb
   @Override
   public void afterAll(final ExtensionContext context) {
     Screenshots.finishContext();
+    Screenshots.flush();
   }
 }
@@ -2,6 +2,7 @@ package com.codeborne.selenide.testng;
 
 import com.codeborne.selenide.Screenshots;
 import com.codeborne.selenide.ex.UIAssertionError;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.reporters.ExitCodeListener;
 
@@ -45,4 +46,10 @@ public class ScreenShooter extends ExitCodeListener {
     }
     Screenshots.finishContext();
   }
+
+  @Override
+  public void onFinish(ITestContext context) {
+    super.onFinish(context);
+    Screenshots.flush();
+  }
 }